@@ -0,0 +1,73 @@
+package leo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Random;
+import leo.task.Deadline;
+import leo.task.Event;
+import leo.task.Task;
+import leo.task.Todo;
+
+/**
+ * BenchmarkData generates the task lists the benchmarks run against.
+ * Lists are generated from a fixed seed, so every run measures the same data.
+ */
+public class BenchmarkData {
+    private static final long SEED = 42;
+    private static final String[] WORDS = {
+        "read", "book", "write", "report", "call", "mum", "buy", "groceries", "project", "meeting",
+        "review", "code", "submit", "assignment", "lecture", "tutorial", "gym", "dinner", "plan", "trip"
+    };
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    /**
+     * Returns a mix of todos, deadlines, and events with distinct descriptions.
+     * Every tenth task is marked as done.
+     *
+     * @param count the number of tasks to generate
+     * @return the generated tasks
+     */
+    public static ArrayList<Task> tasks(int count) {
+        Random random = new Random(SEED);
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = description(random, i);
+            LocalDateTime time = BASE_TIME.plusMinutes(random.nextInt(500_000));
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new Todo(description);
+                break;
+
+            case 1:
+                task = new Deadline(description, time);
+                break;
+
+            default:
+                task = new Event(description, time, time.plusHours(1 + random.nextInt(4)));
+                break;
+            }
+            if (i % 10 == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Builds a description of a few random words, made unique by the task number.
+     *
+     * @param random the random source
+     * @param number the number of the task
+     * @return the description
+     */
+    public static String description(Random random, int number) {
+        StringBuilder sb = new StringBuilder();
+        int wordCount = 2 + random.nextInt(3);
+        for (int w = 0; w < wordCount; w++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.append(number).toString();
+    }
+}
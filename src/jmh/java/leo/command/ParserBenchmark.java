@@ -0,0 +1,103 @@
+package leo.command;
+
+import java.util.concurrent.TimeUnit;
+import leo.exception.LeoException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ParserBenchmark measures the time taken to turn a line of user input into a Command.
+ * Each benchmark runs against both the token-based {@link Parser} and the earlier {@link RegexParser}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    @Param({"TOKENS", "REGEX"})
+    private String implementation;
+
+    private Parser parser;
+    private RegexParser regexParser;
+
+    /**
+     * Starts each iteration with a fresh parser, so the undo history does not keep growing.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        parser = new Parser();
+        regexParser = new RegexParser();
+    }
+
+    /**
+     * Parses the input with the implementation under test.
+     *
+     * @param input the line of user input
+     * @return the parsed command
+     * @throws LeoException if the input is invalid
+     */
+    private Command parse(String input) throws LeoException {
+        return implementation.equals("REGEX") ? regexParser.parse(input) : parser.parse(input);
+    }
+
+    /**
+     * Parses a todo command.
+     *
+     * @return the parsed command
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public Command parseTodo() throws LeoException {
+        return parse("todo read book about performance");
+    }
+
+    /**
+     * Parses a deadline command, including its date/time.
+     *
+     * @return the parsed command
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public Command parseDeadline() throws LeoException {
+        return parse("deadline submit report /by 2025-12-31 2359");
+    }
+
+    /**
+     * Parses an event command, including both of its date/times.
+     *
+     * @return the parsed command
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public Command parseEvent() throws LeoException {
+        return parse("event project meeting /from 15/6/2025 1400 /to 15/6/2025 1600");
+    }
+
+    /**
+     * Parses a mark command with a task number.
+     *
+     * @return the parsed command
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public Command parseMark() throws LeoException {
+        return parse("mark 42");
+    }
+
+    /**
+     * Parses a list command.
+     *
+     * @return the parsed command
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public Command parseList() throws LeoException {
+        return parse("list");
+    }
+}
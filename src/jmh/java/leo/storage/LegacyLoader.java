@@ -0,0 +1,170 @@
+package leo.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import leo.exception.LeoException;
+import leo.task.Deadline;
+import leo.task.Event;
+import leo.task.Task;
+import leo.task.TaskList;
+import leo.task.Todo;
+import leo.util.DateTimeUtil;
+
+/**
+ * LegacyLoader is the load path of {@link Storage} that streaming and {@link FieldScanner} replaced:
+ * it reads the whole file with {@code readAllLines} and splits each line with a regular expression.
+ * It is kept unchanged apart from its name so that benchmarks can compare the two.
+ *
+ * <p>It predates task ids and the generation header, so it only reads save files without them.</p>
+ */
+public class LegacyLoader {
+    private static final String TODO_CODE = "T";
+    private static final String DEADLINE_CODE = "D";
+    private static final String EVENT_CODE = "E";
+    private static final String DONE_MARKER = "1";
+
+    private final Path filePath;
+
+    /**
+     * Constructs a LegacyLoader for the given save file.
+     *
+     * @param filePath the save file to load
+     */
+    public LegacyLoader(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Loads every task in the save file.
+     *
+     * @return the loaded tasks
+     * @throws LeoException if the file cannot be read or contains a corrupted date/time
+     */
+    public TaskList load() throws LeoException {
+        ArrayList<Task> tasks = new ArrayList<>();
+
+        if (Files.exists(filePath)) {
+            loadSnapshot(tasks);
+        }
+        return new TaskList(tasks);
+    }
+
+    /**
+     * Reads every task in the snapshot file into the given list.
+     *
+     * @param tasks the list to add the loaded tasks to
+     * @throws LeoException if the file cannot be read
+     */
+    private void loadSnapshot(ArrayList<Task> tasks) throws LeoException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new LeoException("Cannot read save file: " + filePath
+                    + ". The file may be in use or corrupted.");
+        }
+
+        for (String raw : lines) {
+            String line = raw.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            Task parsed = parseLine(line);
+            if (parsed != null) {
+                tasks.add(parsed);
+            }
+        }
+    }
+
+    /**
+     * Parses a single line from the storage file into a Task object.
+     * Handles Todo, Deadline, and Event task types.
+     *
+     * @param line the line to parse
+     * @return the parsed Task, or null if the line is invalid
+     * @throws LeoException if the line format is corrupted
+     */
+    private Task parseLine(String line) throws LeoException {
+        String[] parts = line.split("\\s*\\|\\s*");
+
+        // Guard clause: validate minimum parts
+        if (parts.length < 3) {
+            return null;
+        }
+
+        String typeCode = parts[0];
+        boolean isDone = parts[1].equals(DONE_MARKER);
+        String desc = parts[2];
+
+        Task task = parseTaskByType(typeCode, parts, desc);
+
+        if (task != null && isDone) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Parses a task based on its type code.
+     *
+     * @param typeCode the type code (T, D, or E)
+     * @param parts the split line parts
+     * @param desc the task description
+     * @return the parsed task, or null if invalid
+     * @throws LeoException if parsing fails
+     */
+    private Task parseTaskByType(String typeCode, String[] parts, String desc) throws LeoException {
+        switch (typeCode) {
+        case TODO_CODE:
+            return new Todo(desc);
+
+        case DEADLINE_CODE:
+            return parseDeadlineTask(parts, desc);
+
+        case EVENT_CODE:
+            return parseEventTask(parts, desc);
+
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Parses a Deadline task from stored parts.
+     *
+     * @param parts the split line parts
+     * @param desc the task description
+     * @return the parsed Deadline task, or null if invalid
+     * @throws LeoException if parsing fails
+     */
+    private Task parseDeadlineTask(String[] parts, String desc) throws LeoException {
+        boolean hasCorrectParts = parts.length == 4;
+        if (!hasCorrectParts) {
+            return null;
+        }
+        return new Deadline(desc, DateTimeUtil.parseStored(parts[3]));
+    }
+
+    /**
+     * Parses an Event task from stored parts.
+     *
+     * @param parts the split line parts
+     * @param desc the task description
+     * @return the parsed Event task, or null if invalid
+     * @throws LeoException if parsing fails
+     */
+    private Task parseEventTask(String[] parts, String desc) throws LeoException {
+        boolean hasCorrectParts = parts.length == 5;
+        if (!hasCorrectParts) {
+            return null;
+        }
+        return new Event(desc,
+                DateTimeUtil.parseStored(parts[3]),
+                DateTimeUtil.parseStored(parts[4]));
+    }
+}
@@ -0,0 +1,101 @@
+package leo.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import leo.BenchmarkData;
+import leo.exception.LeoException;
+import leo.task.TaskList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * StorageLoadBenchmark measures loading save files of different sizes in each format.
+ * The LEGACY layout loads the text file with the earlier {@link LegacyLoader}, as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageLoadBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"LEGACY", "TEXT", "BINARY"})
+    private String layout;
+
+    private Path directory;
+    private Storage storage;
+    private LegacyLoader legacyLoader;
+
+    /**
+     * Writes the save file to load.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     * @throws LeoException if the save file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, LeoException {
+        directory = Files.createTempDirectory("leo-bench");
+        storage = new Storage(directory.resolve("leo.txt").toString());
+        storage.setDurabilityPolicy(DurabilityPolicy.NEVER);
+        storage.setSnapshotFormat(layout.equals("BINARY") ? SnapshotFormat.BINARY : SnapshotFormat.TEXT);
+        storage.save(new TaskList(BenchmarkData.tasks(taskCount)));
+        if (layout.equals("LEGACY")) {
+            stripIdsAndHeader(directory.resolve("leo.txt"));
+            legacyLoader = new LegacyLoader(directory.resolve("leo.txt"));
+        }
+    }
+
+    /**
+     * Rewrites a text save file without its generation header and task ids, which the legacy loader predates.
+     *
+     * @param file the save file to rewrite
+     * @throws IOException if the file cannot be read or written
+     */
+    private static void stripIdsAndHeader(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        ArrayList<String> stripped = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (line.startsWith("GENERATION")) {
+                continue;
+            }
+            int idStart = line.lastIndexOf(" | #");
+            stripped.add(idStart < 0 ? line : line.substring(0, idStart));
+        }
+        Files.write(file, stripped, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deletes the save file and its directory.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("leo.txt"));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Loads every task in the save file.
+     *
+     * @return the loaded tasks
+     * @throws LeoException if the save file cannot be read
+     */
+    @Benchmark
+    public TaskList load() throws LeoException {
+        return layout.equals("LEGACY") ? legacyLoader.load() : storage.load();
+    }
+}
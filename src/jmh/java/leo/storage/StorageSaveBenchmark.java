@@ -0,0 +1,75 @@
+package leo.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import leo.BenchmarkData;
+import leo.exception.LeoException;
+import leo.task.TaskList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * StorageSaveBenchmark measures writing task lists of different sizes in each format and durability policy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageSaveBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"TEXT", "BINARY"})
+    private SnapshotFormat format;
+
+    @Param({"NEVER", "BATCHED", "ALWAYS"})
+    private DurabilityPolicy policy;
+
+    private Path directory;
+    private Storage storage;
+    private TaskList tasks;
+
+    /**
+     * Generates the tasks to save.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("leo-bench");
+        storage = new Storage(directory.resolve("leo.txt").toString());
+        storage.setSnapshotFormat(format);
+        storage.setDurabilityPolicy(policy);
+        tasks = new TaskList(BenchmarkData.tasks(taskCount));
+    }
+
+    /**
+     * Deletes the save file and its directory.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("leo.txt"));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Writes every task to the save file.
+     *
+     * @throws LeoException if the save file cannot be written
+     */
+    @Benchmark
+    public void save() throws LeoException {
+        storage.save(tasks);
+    }
+}
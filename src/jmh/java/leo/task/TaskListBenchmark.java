@@ -0,0 +1,110 @@
+package leo.task;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import leo.BenchmarkData;
+import leo.exception.LeoException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TaskListBenchmark measures adding and finding tasks in lists of different sizes.
+ * The keyword index is built during setup, so find benchmarks measure lookups rather than the first build.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private TaskList tasks;
+    private Task duplicate;
+    private long counter;
+
+    /**
+     * Builds the task list and its keyword index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<Task> generated = BenchmarkData.tasks(taskCount);
+        duplicate = new Todo(generated.get(0).getDescription().toUpperCase());
+        tasks = new TaskList(generated);
+        tasks.findTasks("warm up");
+    }
+
+    /**
+     * Adds a new task, which includes the duplicate check, then removes it again to keep the size fixed.
+     *
+     * @return the added task
+     * @throws LeoException never, since every added task is unique
+     */
+    @Benchmark
+    public Task addAndRemove() throws LeoException {
+        Task task = new Todo("benchmark task " + counter++);
+        tasks.add(task);
+        return tasks.remove(tasks.size() - 1);
+    }
+
+    /**
+     * Tries to add a task that differs from an existing one only by case.
+     *
+     * @return the rejection error
+     */
+    @Benchmark
+    public LeoException addDuplicate() {
+        try {
+            tasks.add(duplicate);
+            throw new AssertionError("Duplicate was accepted");
+        } catch (LeoException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Finds a keyword that only a handful of tasks contain.
+     *
+     * @return the matching tasks
+     */
+    @Benchmark
+    public ArrayList<Task> findRare() {
+        return tasks.findTasks("777");
+    }
+
+    /**
+     * Finds a keyword that many tasks contain.
+     *
+     * @return the matching tasks
+     */
+    @Benchmark
+    public ArrayList<Task> findCommon() {
+        return tasks.findTasks("groceries");
+    }
+
+    /**
+     * Finds a keyword too short for the keyword index, which scans every task.
+     *
+     * @return the matching tasks
+     */
+    @Benchmark
+    public ArrayList<Task> findShort() {
+        return tasks.findTasks("gy");
+    }
+
+    /**
+     * Finds a keyword that no task contains.
+     *
+     * @return the matching tasks
+     */
+    @Benchmark
+    public ArrayList<Task> findMissing() {
+        return tasks.findTasks("zebra");
+    }
+}
@@ -0,0 +1,161 @@
+package leo.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * AvatarBenchmark measures building a dialog full of message bubbles and laying it out, with the profile
+ * pictures drawn per bubble as a Circle, Label, and StackPane, as {@link GuiUi} used to, or shown through an
+ * ImageView of one shared snapshot, as it does now. The time per bubble is the score divided by the bubble
+ * count. Running with {@code -prof gc} gives the allocation per bubble the same way, from gc.alloc.rate.norm.
+ *
+ * <p>It starts the JavaFX toolkit, so it needs a display, and does all its work on the application thread.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AvatarBenchmark {
+    private static final int PROFILE_PICTURE_SIZE = 32;
+
+    @Param({"300"})
+    private int bubbleCount;
+
+    @Param({"REGION", "SNAPSHOT"})
+    private String avatar;
+
+    private VBox dialog;
+    private WritableImage snapshot;
+
+    /**
+     * Starts the JavaFX toolkit, attaches an empty dialog to a scene, and draws the shared avatar.
+     *
+     * @throws Exception if the work on the application thread fails
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Platform.startup(() -> { });
+        onFxThread(() -> {
+            dialog = new VBox();
+            new Scene(dialog);
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            snapshot = createRegion().snapshot(parameters, null);
+            return null;
+        });
+    }
+
+    /**
+     * Stops the JavaFX toolkit.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    /**
+     * Replaces the dialog with new bubbles, then applies CSS and lays it out, as showing them would.
+     *
+     * @return the number of bubbles shown
+     * @throws Exception if the work on the application thread fails
+     */
+    @Benchmark
+    public int buildAndLayOut() throws Exception {
+        return onFxThread(() -> {
+            List<Node> bubbles = new ArrayList<>(bubbleCount);
+            for (int i = 0; i < bubbleCount; i++) {
+                bubbles.add(createBubble("Message " + i));
+            }
+            dialog.getChildren().setAll(bubbles);
+            dialog.applyCss();
+            dialog.layout();
+            return dialog.getChildren().size();
+        });
+    }
+
+    /**
+     * Creates a bot message bubble with the profile picture of the benchmarked kind.
+     *
+     * @param text the message text
+     * @return the bubble
+     */
+    private HBox createBubble(String text) {
+        Label messageLabel = new Label(text);
+        messageLabel.setWrapText(true);
+        messageLabel.setMaxWidth(300);
+        Node profilePicture = avatar.equals("REGION") ? createRegion() : createImageView();
+        return new HBox(8, profilePicture, new VBox(messageLabel));
+    }
+
+    /**
+     * Draws the profile picture from scratch, as every bubble used to.
+     *
+     * @return the profile picture region
+     */
+    private static StackPane createRegion() {
+        Circle circle = new Circle(PROFILE_PICTURE_SIZE / 2);
+        circle.setFill(Color.valueOf("#4CAF50"));
+        circle.setStroke(Color.valueOf("#e0e0e0"));
+        circle.setStrokeWidth(1);
+
+        Label initialLabel = new Label("L");
+        initialLabel.setTextFill(Color.WHITE);
+        initialLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+
+        StackPane stackPane = new StackPane(circle, initialLabel);
+        stackPane.setPrefSize(PROFILE_PICTURE_SIZE, PROFILE_PICTURE_SIZE);
+        stackPane.setMaxSize(PROFILE_PICTURE_SIZE, PROFILE_PICTURE_SIZE);
+        stackPane.setMinSize(PROFILE_PICTURE_SIZE, PROFILE_PICTURE_SIZE);
+        return stackPane;
+    }
+
+    /**
+     * Shows the shared snapshot, as every bubble does now.
+     *
+     * @return the profile picture view
+     */
+    private ImageView createImageView() {
+        ImageView profilePicture = new ImageView(snapshot);
+        profilePicture.setFitWidth(PROFILE_PICTURE_SIZE);
+        profilePicture.setFitHeight(PROFILE_PICTURE_SIZE);
+        return profilePicture;
+    }
+
+    /**
+     * Runs the given work on the JavaFX application thread and waits for its result.
+     *
+     * @param work the work to run
+     * @param <T> the type of the result
+     * @return the result of the work
+     * @throws Exception if the work fails
+     */
+    private static <T> T onFxThread(Callable<T> work) throws Exception {
+        FutureTask<T> task = new FutureTask<>(work);
+        Platform.runLater(task);
+        return task.get();
+    }
+}
@@ -0,0 +1,64 @@
+package leo.util;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import leo.exception.LeoException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * DateTimeUtilBenchmark measures date/time parsing for each accepted user format and for stored values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeUtilBenchmark {
+
+    /**
+     * Parses a date in the yyyy-MM-dd format.
+     *
+     * @return the parsed date/time
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public LocalDateTime parseIsoDate() throws LeoException {
+        return DateTimeUtil.parseDateTime("2025-12-31");
+    }
+
+    /**
+     * Parses a date/time in the yyyy-MM-dd HHmm format.
+     *
+     * @return the parsed date/time
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public LocalDateTime parseIsoDateTime() throws LeoException {
+        return DateTimeUtil.parseDateTime("2025-12-31 2359");
+    }
+
+    /**
+     * Parses a date/time in the d/M/yyyy HHmm format, which is tried last.
+     *
+     * @return the parsed date/time
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public LocalDateTime parseSlashDateTime() throws LeoException {
+        return DateTimeUtil.parseDateTime("31/12/2025 2359");
+    }
+
+    /**
+     * Parses a date/time as written to the save file.
+     *
+     * @return the parsed date/time
+     * @throws LeoException never, for valid input
+     */
+    @Benchmark
+    public LocalDateTime parseStored() throws LeoException {
+        return DateTimeUtil.parseStored("2025-12-31T23:59");
+    }
+}
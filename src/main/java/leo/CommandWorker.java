@@ -0,0 +1,106 @@
+package leo;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import leo.command.Command;
+import leo.command.Parser;
+import leo.exception.LeoException;
+import leo.storage.Storage;
+import leo.task.TaskList;
+import leo.ui.Ui;
+
+/**
+ * CommandWorker parses and executes user commands on a dedicated background thread.
+ * Work runs one item at a time in the order it was submitted, so the task list, the storage,
+ * and the UI's pending output are only ever touched by that one thread. Whatever a command prints
+ * is flushed through the UI when it finishes; {@link leo.ui.GuiUi} hands it to the JavaFX thread.
+ */
+public class CommandWorker {
+    private static final String THREAD_NAME = "leo-command";
+
+    private final Parser parser;
+    private final TaskList tasks;
+    private final Storage storage;
+    private final Ui ui;
+    private final Runnable onExit;
+    private final ExecutorService worker;
+
+    /**
+     * Constructs a CommandWorker and starts its thread.
+     *
+     * @param tasks the task list that commands act on
+     * @param storage the storage that commands save to
+     * @param ui the UI that commands print to
+     * @param onExit called on the worker thread after a command asks the application to exit
+     */
+    public CommandWorker(TaskList tasks, Storage storage, Ui ui, Runnable onExit) {
+        this.parser = new Parser();
+        this.tasks = tasks;
+        this.storage = storage;
+        this.ui = ui;
+        this.onExit = onExit;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a command to be parsed and executed after everything submitted before it.
+     * Errors are printed through the UI.
+     *
+     * @param input the trimmed command text
+     */
+    public void submitCommand(String input) {
+        worker.execute(() -> executeCommand(input));
+    }
+
+    /**
+     * Queues an action to run on the worker thread after everything submitted before it.
+     *
+     * @param action the action to run
+     */
+    public void submitAction(Runnable action) {
+        worker.execute(action);
+    }
+
+    /**
+     * Stops accepting work and waits for the work already submitted to finish.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if all submitted work finished in time
+     */
+    public boolean shutdown(long timeoutMillis) {
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Parses and executes a single command on the worker thread, then flushes its output.
+     *
+     * @param input the trimmed command text
+     */
+    private void executeCommand(String input) {
+        boolean isExit = false;
+        try {
+            Command cmd = parser.parse(input);
+            cmd.execute(tasks, storage, ui);
+            isExit = cmd.isExit();
+        } catch (LeoException e) {
+            ui.printError(e.getMessage());
+        } finally {
+            ui.flush();
+        }
+
+        if (isExit) {
+            onExit.run();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import javafx.application.Application;
 /**
  * Launcher class for JavaFX application.
  * This class is required to launch the JavaFX application properly.
+ * It also starts batch runs of command files, which need no JavaFX at all.
  */
 public class Launcher extends Application {
     @Override
@@ -12,7 +13,16 @@ public class Launcher extends Application {
         new LeoFX().start(primaryStage);
     }
 
+    /**
+     * Starts the GUI, or runs a command file without opening a window when started with {@code --batch <file>}.
+     *
+     * @param args command-line arguments
+     */
     public static void main(String[] args) {
+        if (Leo.isBatchRequest(args)) {
+            Leo.main(args);
+            return;
+        }
         launch(args);
     }
 }
@@ -1,5 +1,15 @@
 package leo;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import leo.command.Command;
 import leo.command.Parser;
 import leo.exception.LeoException;
@@ -12,8 +22,18 @@ import leo.ui.Ui;
  * It supports three types of tasks: Todo, Deadline, and Event.
  * Users can add, list, mark, unmark, and delete tasks through a command-line interface.
  * The application persists tasks to a file for data persistence across sessions.
+ *
+ * <p>Started with {@code --batch <file>}, Leo runs the commands in the file instead of reading them
+ * from the user, prints to a buffered console sink, and saves only at checkpoints and at the end.</p>
  */
 public class Leo {
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+    private static final long SAVE_DELAY_MILLIS = 200;
+    private static final String DEFAULT_FILE_PATH = "data/leo.txt";
+    private static final String BATCH_FLAG = "--batch";
+    private static final int BATCH_CHECKPOINT_INTERVAL = 10000;
+    private static final int BATCH_OUTPUT_BUFFER_SIZE = 1 << 16;
+
     private Ui ui;
     private Parser parser;
     private Storage storage;
@@ -27,9 +47,21 @@ public class Leo {
      * @param filePath the path to the file where tasks are stored
      */
     public Leo(String filePath) {
-        ui = new Ui();
-        parser = new Parser();
-        storage = new Storage(filePath);
+        this(new Ui(), createInteractiveStorage(filePath));
+    }
+
+    /**
+     * Constructs a Leo chatbot with the given UI and storage, and loads existing tasks from storage.
+     * If loading fails, starts with an empty task list and displays an error message.
+     *
+     * @param ui the UI to print messages through
+     * @param storage the storage to load tasks from and save them to
+     */
+    private Leo(Ui ui, Storage storage) {
+        this.ui = ui;
+        this.ui.enableBufferedOutput();
+        this.parser = new Parser();
+        this.storage = storage;
 
         try {
             tasks = storage.load();
@@ -39,35 +71,157 @@ public class Leo {
         }
     }
 
+    /**
+     * Creates the storage used by interactive sessions, which journals single changes
+     * and writes them in the background.
+     *
+     * @param filePath the path to the file where tasks are stored
+     * @return the configured storage
+     */
+    private static Storage createInteractiveStorage(String filePath) {
+        Storage storage = new Storage(filePath);
+        storage.enableJournal(JOURNAL_COMPACTION_THRESHOLD);
+        storage.enableAsyncSave(SAVE_DELAY_MILLIS);
+        return storage;
+    }
+
     /**
      * Runs the main chatbot loop.
      * Displays a greeting message and continuously reads user commands,
      * parses them, executes the corresponding actions, and handles exceptions.
      * The loop continues until an exit command is received.
+     * The output of each command is written to the console in one piece once the command is done.
+     * Pending saves are flushed before returning, even if the loop ends abnormally.
      */
     public void run() {
         ui.printGreeting();
+        ui.flush();
+
+        boolean isExit = false;
+        try {
+            while (!isExit) {
+                isExit = executeCommand(ui.readCommand());
+            }
+        } finally {
+            flushStorage();
+            ui.flush();
+        }
+    }
+
+    /**
+     * Runs every command in the given file, in order, with the same output as if they were typed in.
+     * The file is read one line at a time, so it can be larger than the available memory.
+     * Tasks are saved after every {@value #BATCH_CHECKPOINT_INTERVAL} commands and once more at the end.
+     * An exit command stops the run before the rest of the file.
+     *
+     * @param commandFile the file holding one command per line
+     */
+    public void runBatch(Path commandFile) {
+        ui.printGreeting();
 
+        int commandCount = 0;
         boolean isExit = false;
-        while (!isExit) {
-            try {
-                String input = ui.readCommand();
-                Command cmd = parser.parse(input);
-                cmd.execute(tasks, storage, ui);
-                isExit = cmd.isExit();
-            } catch (LeoException e) {
-                ui.printError(e.getMessage());
+        try (BufferedReader reader = Files.newBufferedReader(commandFile, StandardCharsets.UTF_8)) {
+            String line;
+            while (!isExit && (line = reader.readLine()) != null) {
+                isExit = executeCommand(line.trim());
+                commandCount++;
+                if (commandCount % BATCH_CHECKPOINT_INTERVAL == 0) {
+                    checkpointStorage();
+                }
             }
+        } catch (IOException e) {
+            ui.printError("Cannot read command file: " + commandFile + ". Please check that it exists.");
+        } finally {
+            checkpointStorage();
+            flushStorage();
+            ui.flush();
+        }
+    }
+
+    /**
+     * Parses and executes a single command, printing any error to the user.
+     * Everything the command printed is flushed to the output afterwards.
+     *
+     * @param input the trimmed command text
+     * @return true if the command asks the application to exit
+     */
+    private boolean executeCommand(String input) {
+        try {
+            Command cmd = parser.parse(input);
+            cmd.execute(tasks, storage, ui);
+            return cmd.isExit();
+        } catch (LeoException e) {
+            ui.printError(e.getMessage());
+            return false;
+        } finally {
+            ui.flush();
+        }
+    }
+
+    /**
+     * Saves the changes held back in batch mode, reporting any failure to the user.
+     */
+    private void checkpointStorage() {
+        try {
+            storage.checkpoint(tasks);
+        } catch (LeoException e) {
+            ui.printError(e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for pending saves to finish, reporting any failure to the user.
+     */
+    private void flushStorage() {
+        try {
+            storage.flush();
+        } catch (LeoException e) {
+            ui.printError(e.getMessage());
         }
     }
 
+    /**
+     * Runs the commands in the given file against the tasks in the given storage file.
+     * Output is collected in a large buffer instead of being flushed to the console line by line.
+     *
+     * @param filePath the path to the file where tasks are stored
+     * @param commandFile the file holding one command per line
+     */
+    public static void runBatch(String filePath, Path commandFile) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out), BATCH_OUTPUT_BUFFER_SIZE), false, StandardCharsets.UTF_8);
+        Storage storage = new Storage(filePath);
+        storage.deferWrites();
+        try {
+            new Leo(new Ui(out), storage).runBatch(commandFile);
+        } finally {
+            out.flush();
+        }
+    }
+
+    /**
+     * Returns whether the command-line arguments ask for a batch run.
+     *
+     * @param args command-line arguments
+     * @return true if the arguments are {@code --batch <file>}
+     */
+    public static boolean isBatchRequest(String[] args) {
+        return args.length == 2 && args[0].equals(BATCH_FLAG);
+    }
+
     /**
      * The main entry point of the Leo application.
-     * Creates a new Leo instance with the default data file path and runs it.
+     * Creates a new Leo instance with the default data file path and runs it,
+     * or runs a command file when started with {@code --batch <file>}.
      *
-     * @param args command-line arguments (not used)
+     * @param args command-line arguments, either none or {@code --batch <file>}
      */
     public static void main(String[] args) {
-        new Leo("data/leo.txt").run();
+        if (isBatchRequest(args)) {
+            runBatch(DEFAULT_FILE_PATH, Paths.get(args[1]));
+            return;
+        }
+        new Leo(DEFAULT_FILE_PATH).run();
     }
 }
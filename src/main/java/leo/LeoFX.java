@@ -17,6 +17,8 @@ public class LeoFX extends Application {
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/main_window.fxml"));
             AnchorPane ap = fxmlLoader.load();
+            MainWindowController controller = fxmlLoader.getController();
+            stage.setOnCloseRequest(event -> controller.shutdown());
             Scene scene = new Scene(ap);
             scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
             stage.setScene(scene);
@@ -8,8 +8,6 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import leo.command.Command;
-import leo.command.Parser;
 import leo.exception.LeoException;
 import leo.storage.Storage;
 import leo.task.TaskList;
@@ -18,8 +16,13 @@ import leo.ui.GuiUi;
 /**
  * MainWindowController handles the GUI logic for the Leo chatbot.
  * It manages user input, displays dialog bubbles, and processes commands.
+ * Commands run on a {@link CommandWorker} so the window stays responsive while they execute and save.
  */
 public class MainWindowController {
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+    private static final long SAVE_DELAY_MILLIS = 200;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
     @FXML
     private TextField userInput;
 
@@ -32,10 +35,11 @@ public class MainWindowController {
     @FXML
     private ScrollPane scrollPane;
 
-    private Parser parser;
     private Storage storage;
     private TaskList tasks;
     private GuiUi ui;
+    private CommandWorker commandWorker;
+    private boolean isAutoScrolling;
 
     /**
      * Initializes the controller and sets up the chatbot.
@@ -43,18 +47,38 @@ public class MainWindowController {
     @FXML
     public void initialize() {
         storage = new Storage("data/leo.txt");
-        parser = new Parser();
+        storage.enableJournal(JOURNAL_COMPACTION_THRESHOLD);
+        storage.enableAsyncSave(SAVE_DELAY_MILLIS);
         ui = new GuiUi();
+        ui.enableBufferedOutput();
 
         try {
             tasks = storage.load();
         } catch (LeoException e) {
             tasks = new TaskList();
         }
+        commandWorker = new CommandWorker(tasks, storage, ui, this::handleClose);
+
+        // Keep the newest messages in view as the dialog grows, unless older ones were just shown
+        dialogBox.heightProperty().addListener((observable, oldHeight, newHeight) -> {
+            if (!ui.isShowingOlderMessages()) {
+                isAutoScrolling = true;
+                scrollPane.setVvalue(1.0);
+                isAutoScrolling = false;
+            }
+        });
+
+        // Older messages shown again stay until the user scrolls back down to the newest message
+        scrollPane.vvalueProperty().addListener((observable, oldValue, newValue) -> {
+            if (!isAutoScrolling && newValue.doubleValue() >= scrollPane.getVmax()) {
+                ui.releaseOlderMessages();
+            }
+        });
 
         // Set initial greeting
         ui.setDialogContainer(dialogBox);
         ui.printGreeting();
+        ui.flush();
     }
 
     /**
@@ -78,7 +102,9 @@ public class MainWindowController {
     }
 
     /**
-     * Processes the user input and displays the response.
+     * Hands the user input to the command worker, which echoes it and runs the command off the
+     * JavaFX application thread. The input and everything the command prints are added to the dialog
+     * in one update once the command is done.
      */
     private void handleUserInput() {
         String input = userInput.getText().trim();
@@ -86,35 +112,42 @@ public class MainWindowController {
             return;
         }
 
-        // Display user input
-        ui.addUserMessage(input);
-
         // Clear input field
         userInput.clear();
 
-        // Process command
-        try {
-            Command cmd = parser.parse(input);
-            cmd.execute(tasks, storage, ui);
+        // Display user input, then process the command, both in submission order
+        commandWorker.submitAction(() -> ui.addUserMessage(input));
+        commandWorker.submitCommand(input);
+    }
 
-            // Scroll to bottom after response
-            scrollPane.setVvalue(1.0);
+    /**
+     * Lets the commands already entered finish, then waits for pending saves.
+     * Called on the JavaFX application thread when the window is closed directly, without the bye command.
+     */
+    public void shutdown() {
+        commandWorker.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        flushStorage();
+    }
 
-            // Check if exit command
-            if (cmd.isExit()) {
-                handleClose();
-            }
+    /**
+     * Waits for pending saves to finish, reporting any failure in the dialog.
+     */
+    private void flushStorage() {
+        try {
+            storage.flush();
         } catch (LeoException e) {
             ui.printError(e.getMessage());
-            scrollPane.setVvalue(1.0);
+            ui.flush();
         }
     }
 
     /**
-     * Handles the window close event.
+     * Handles the exit command. Runs on the command worker thread.
      */
     private void handleClose() {
+        flushStorage();
         ui.printGoodbye();
+        ui.flush();
         // Delay closing to allow user to see goodbye message
         javafx.application.Platform.runLater(() -> {
             try {
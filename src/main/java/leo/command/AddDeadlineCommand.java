@@ -3,6 +3,7 @@ package leo.command;
 import java.time.LocalDateTime;
 
 import leo.exception.LeoException;
+import leo.history.UndoRecord;
 import leo.storage.Storage;
 import leo.task.Deadline;
 import leo.task.Task;
@@ -13,9 +14,10 @@ import leo.ui.Ui;
  * AddDeadlineCommand adds a new Deadline task to the task list.
  * A Deadline is a task with a description and a due date/time.
  */
-public class AddDeadlineCommand extends Command implements UndoableAddCommand {
+public class AddDeadlineCommand extends Command implements UndoableCommand {
     private final String description;
     private final LocalDateTime by;
+    private UndoRecord undoRecord;
 
     /**
      * Constructs an AddDeadlineCommand with the specified description and deadline.
@@ -41,7 +43,18 @@ public class AddDeadlineCommand extends Command implements UndoableAddCommand {
     public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
         Task d = new Deadline(description, by);
         tasks.add(d);
-        storage.save(tasks);
+        undoRecord = UndoRecord.ofAdd(d.getId());
+        storage.recordAdd(tasks, d);
         ui.printAddedTask(d, tasks.size());
     }
+
+    /**
+     * Returns the record needed to reverse this command, or null if it has not run successfully.
+     *
+     * @return the undo record
+     */
+    @Override
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
+    }
 }
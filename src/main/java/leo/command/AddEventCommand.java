@@ -1,8 +1,10 @@
 package leo.command;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 
 import leo.exception.LeoException;
+import leo.history.UndoRecord;
 import leo.storage.Storage;
 import leo.task.Event;
 import leo.task.Task;
@@ -12,11 +14,14 @@ import leo.ui.Ui;
 /**
  * AddEventCommand adds a new Event task to the task list.
  * An Event is a task with a description and a time range (start and end).
+ * By default, the user is warned about existing events whose time range overlaps the new one.
  */
-public class AddEventCommand extends Command implements UndoableAddCommand {
+public class AddEventCommand extends Command implements UndoableCommand {
     private final String description;
     private final LocalDateTime from;
     private final LocalDateTime to;
+    private final boolean isConflictCheckEnabled;
+    private UndoRecord undoRecord;
 
     /**
      * Constructs an AddEventCommand with the specified description and time range.
@@ -26,15 +31,29 @@ public class AddEventCommand extends Command implements UndoableAddCommand {
      * @param to the end date/time of the event
      */
     public AddEventCommand(String description, LocalDateTime from, LocalDateTime to) {
+        this(description, from, to, true);
+    }
+
+    /**
+     * Constructs an AddEventCommand that may skip the check for overlapping events.
+     *
+     * @param description the description of the event task
+     * @param from the start date/time of the event
+     * @param to the end date/time of the event
+     * @param isConflictCheckEnabled whether to warn about existing events overlapping the new one
+     */
+    public AddEventCommand(String description, LocalDateTime from, LocalDateTime to, boolean isConflictCheckEnabled) {
         this.description = description;
         this.from = from;
         this.to = to;
+        this.isConflictCheckEnabled = isConflictCheckEnabled;
     }
 
     /**
      * Executes the add event command by creating a new Event task,
      * adding it to the list, saving changes, and displaying confirmation.
      * Validates that the end time is not before or equal to the start time.
+     * If the conflict check is enabled, also warns about events overlapping the new one.
      *
      * @param tasks the task list to add the task to
      * @param storage the storage for saving changes
@@ -46,9 +65,26 @@ public class AddEventCommand extends Command implements UndoableAddCommand {
         if (to.isBefore(from) || to.isEqual(from)) {
             throw new LeoException("Event end time must be after start time.");
         }
-        Task e = new Event(description, from, to);
+        Event e = new Event(description, from, to);
         tasks.add(e);
-        storage.save(tasks);
+        undoRecord = UndoRecord.ofAdd(e.getId());
+        storage.recordAdd(tasks, e);
         ui.printAddedTask(e, tasks.size());
+        if (isConflictCheckEnabled) {
+            ArrayList<Task> conflicts = tasks.getConflictingEvents(e);
+            if (!conflicts.isEmpty()) {
+                ui.printConflictWarning(conflicts);
+            }
+        }
+    }
+
+    /**
+     * Returns the record needed to reverse this command, or null if it has not run successfully.
+     *
+     * @return the undo record
+     */
+    @Override
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
     }
 }
@@ -1,6 +1,7 @@
 package leo.command;
 
 import leo.exception.LeoException;
+import leo.history.UndoRecord;
 import leo.storage.Storage;
 import leo.task.Task;
 import leo.task.TaskList;
@@ -11,8 +12,9 @@ import leo.ui.Ui;
  * AddTodoCommand adds a new Todo task to the task list.
  * A Todo is a simple task with just a description.
  */
-public class AddTodoCommand extends Command implements UndoableAddCommand {
+public class AddTodoCommand extends Command implements UndoableCommand {
     private final String description;
+    private UndoRecord undoRecord;
 
     /**
      * Constructs an AddTodoCommand with the specified task description.
@@ -36,7 +38,18 @@ public class AddTodoCommand extends Command implements UndoableAddCommand {
     public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
         Task t = new Todo(description);
         tasks.add(t);
-        storage.save(tasks);
+        undoRecord = UndoRecord.ofAdd(t.getId());
+        storage.recordAdd(tasks, t);
         ui.printAddedTask(t, tasks.size());
     }
+
+    /**
+     * Returns the record needed to reverse this command, or null if it has not run successfully.
+     *
+     * @return the undo record
+     */
+    @Override
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
+    }
 }
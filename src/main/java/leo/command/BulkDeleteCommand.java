@@ -0,0 +1,54 @@
+package leo.command;
+
+import java.util.ArrayList;
+import leo.exception.LeoException;
+import leo.history.UndoRecord;
+import leo.storage.Storage;
+import leo.task.Task;
+import leo.task.TaskList;
+import leo.ui.Ui;
+
+/**
+ * BulkDeleteCommand removes several tasks, selected by position, from the task list.
+ * The list is compacted in a single pass and saved once.
+ */
+public class BulkDeleteCommand extends Command implements UndoableCommand {
+    private final IndexSelection selection;
+    private UndoRecord undoRecord;
+
+    /**
+     * Constructs a BulkDeleteCommand for the selected tasks.
+     *
+     * @param selection the positions of the tasks to delete
+     */
+    public BulkDeleteCommand(IndexSelection selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Executes the command by removing every selected task.
+     * Resolves the selection, removes the tasks, saves the list once, and displays confirmation.
+     *
+     * @param tasks the task list containing the tasks
+     * @param storage the storage for saving changes
+     * @param ui the UI for displaying confirmation
+     * @throws LeoException if any selected position is not in the list or there are no tasks
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        ArrayList<Task> removed = tasks.removeAll(selection.resolve(tasks, "delete"));
+        undoRecord = UndoRecord.ofBulkDelete(removed);
+        storage.save(tasks);
+        ui.printDeletedTasks(removed, tasks.size());
+    }
+
+    /**
+     * Returns the record needed to reverse this command, or null if it has not run successfully.
+     *
+     * @return the undo record
+     */
+    @Override
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
+    }
+}
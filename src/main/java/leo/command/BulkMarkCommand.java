@@ -0,0 +1,65 @@
+package leo.command;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import leo.exception.LeoException;
+import leo.history.UndoRecord;
+import leo.storage.Storage;
+import leo.task.Task;
+import leo.task.TaskList;
+import leo.ui.Ui;
+
+/**
+ * BulkMarkCommand marks several tasks, selected by position, as done or as not done.
+ * The tasks are updated in one pass over the selection and the list is saved once.
+ */
+public class BulkMarkCommand extends Command implements UndoableCommand {
+    private final IndexSelection selection;
+    private final boolean isDone;
+    private UndoRecord undoRecord;
+
+    /**
+     * Constructs a BulkMarkCommand for the selected tasks.
+     *
+     * @param selection the positions of the tasks to change
+     * @param isDone true to mark the tasks as done, false to mark them as not done
+     */
+    public BulkMarkCommand(IndexSelection selection, boolean isDone) {
+        this.selection = selection;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Executes the command by setting the status of every selected task.
+     * Resolves the selection, updates the tasks, saves the list once, and displays confirmation.
+     *
+     * @param tasks the task list containing the tasks
+     * @param storage the storage for saving changes
+     * @param ui the UI for displaying confirmation
+     * @throws LeoException if any selected position is not in the list or there are no tasks
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        BitSet positions = selection.resolve(tasks, isDone ? "mark" : "unmark");
+        ArrayList<Task> changed = tasks.markAll(positions, isDone);
+        undoRecord = isDone ? UndoRecord.ofBulkMark(changed) : UndoRecord.ofBulkUnmark(changed);
+        storage.save(tasks);
+
+        ArrayList<Task> selected = tasks.getTasksAt(positions);
+        if (isDone) {
+            ui.printMarkedTasks(selected);
+        } else {
+            ui.printUnmarkedTasks(selected);
+        }
+    }
+
+    /**
+     * Returns the record needed to reverse this command, or null if it has not run successfully.
+     *
+     * @return the undo record
+     */
+    @Override
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
+    }
+}
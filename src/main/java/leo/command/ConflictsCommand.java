@@ -0,0 +1,25 @@
+package leo.command;
+
+import leo.exception.LeoException;
+import leo.storage.Storage;
+import leo.task.TaskList;
+import leo.ui.Ui;
+
+/**
+ * ConflictsCommand lists every event whose time range overlaps that of another event.
+ * Overlaps are found through the interval tree in the task list's time index.
+ */
+public class ConflictsCommand extends Command {
+    /**
+     * Executes the conflicts command by displaying the overlapping events in start-time order.
+     *
+     * @param tasks the task list to search
+     * @param storage the storage (not used for this command)
+     * @param ui the UI for displaying results
+     * @throws LeoException if the search fails
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        ui.printConflicts(tasks.getEventsWithConflicts());
+    }
+}
@@ -1,6 +1,7 @@
 package leo.command;
 
 import leo.exception.LeoException;
+import leo.history.UndoRecord;
 import leo.storage.Storage;
 import leo.task.Task;
 import leo.task.TaskList;
@@ -8,10 +9,11 @@ import leo.ui.Ui;
 
 /**
  * DeleteCommand removes a task from the task list.
- * It validates the task index, removes the task, saves changes, and confirms to the user.
+ * It resolves the task by number or id, removes the task, saves changes, and confirms to the user.
  */
-public class DeleteCommand extends Command implements UndoableDeleteCommand {
-    private final int index;
+public class DeleteCommand extends Command implements UndoableCommand {
+    private final TaskReference target;
+    private UndoRecord undoRecord;
 
     /**
      * Constructs a DeleteCommand for the specified task index.
@@ -19,50 +21,43 @@ public class DeleteCommand extends Command implements UndoableDeleteCommand {
      * @param index the zero-based index of the task to delete
      */
     public DeleteCommand(int index) {
-        this.index = index;
+        this(TaskReference.ofIndex(index));
+    }
+
+    /**
+     * Constructs a DeleteCommand for the referenced task.
+     *
+     * @param target the task to delete
+     */
+    public DeleteCommand(TaskReference target) {
+        this.target = target;
     }
 
     /**
      * Executes the delete command by removing the specified task.
-     * Validates the index, removes the task, persists changes, and displays confirmation.
+     * Resolves the task, removes it, persists changes, and displays confirmation.
      *
      * @param tasks the task list containing the task to delete
      * @param storage the storage for saving changes
      * @param ui the UI for displaying confirmation
-     * @throws LeoException if the index is invalid or there are no tasks
+     * @throws LeoException if the task cannot be found or there are no tasks
      */
     @Override
     public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
-        validateIndex(index, tasks.size(), "delete");
+        int index = target.resolve(tasks, "delete");
         Task removed = tasks.remove(index);
-        storage.save(tasks);
+        undoRecord = UndoRecord.ofDelete(removed);
+        storage.recordDelete(tasks, index);
         ui.printDeletedTask(removed, tasks.size());
     }
 
     /**
-     * Validates that the given index is within the valid range for the task list.
-     *
-     * @param index the index to validate
-     * @param taskCount the total number of tasks in the list
-     * @param commandWord the command word for error messages
-     * @throws LeoException if the task list is empty or the index is out of bounds
-     */
-    private void validateIndex(int index, int taskCount, String commandWord) throws LeoException {
-        if (taskCount == 0) {
-            throw new LeoException("There are no tasks to " + commandWord + ".");
-        }
-        if (index < 0 || index >= taskCount) {
-            throw new LeoException("Please give a valid task number to " + commandWord + ".");
-        }
-    }
-
-    /**
-     * Returns the index of the task that was deleted.
+     * Returns the record needed to reverse this command, or null if it has not run successfully.
      *
-     * @return the task index
+     * @return the undo record
      */
     @Override
-    public int getTaskIndex() {
-        return index;
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
     }
 }
@@ -0,0 +1,45 @@
+package leo.command;
+
+import java.time.LocalDateTime;
+import leo.exception.LeoException;
+import leo.storage.Storage;
+import leo.task.TaskList;
+import leo.ui.Ui;
+import leo.util.DateTimeUtil;
+
+/**
+ * DueCommand lists the deadlines due and the events taking place within a period.
+ * Matching tasks are looked up through the task list's time index and shown in time order.
+ */
+public class DueCommand extends Command {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Constructs a DueCommand for the period between the given times, both included.
+     *
+     * @param from the start of the period
+     * @param to the end of the period
+     */
+    public DueCommand(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Executes the due command by displaying the deadlines and events in the period.
+     *
+     * @param tasks the task list to search
+     * @param storage the storage (not used for this command)
+     * @param ui the UI for displaying results
+     * @throws LeoException if the period ends before it starts
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        if (from.isAfter(to)) {
+            throw new LeoException("The start of the period cannot be after its end.");
+        }
+        String period = "from " + DateTimeUtil.format(from) + " to " + DateTimeUtil.format(to);
+        ui.printTasksInPeriod(period, tasks.getTasksBetween(from, to));
+    }
+}
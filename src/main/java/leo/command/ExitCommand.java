@@ -7,19 +7,20 @@ import leo.ui.Ui;
 
 /**
  * ExitCommand terminates the Leo chatbot application.
- * It displays a goodbye message and signals the main loop to exit.
+ * It waits for pending saves, displays a goodbye message, and signals the main loop to exit.
  */
 public class ExitCommand extends Command {
     /**
-     * Executes the exit command by printing a goodbye message.
+     * Executes the exit command by flushing pending saves and printing a goodbye message.
      *
      * @param tasks the task list (not used for this command)
-     * @param storage the storage (not used for this command)
+     * @param storage the storage to flush before exiting
      * @param ui the UI for displaying the goodbye message
-     * @throws LeoException if exit fails
+     * @throws LeoException if a pending save fails
      */
     @Override
     public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        storage.flush();
         ui.printGoodbye();
     }
 
@@ -23,7 +23,7 @@ public class FindCommand extends Command {
 
     /**
      * Executes the find command by searching for tasks containing the keyword.
-     * Displays all matching tasks to the user.
+     * Displays all matching tasks to the user, looked up through the task list's keyword index.
      *
      * @param tasks the task list to search
      * @param storage the storage (not used for this command)
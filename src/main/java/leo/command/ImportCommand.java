@@ -0,0 +1,73 @@
+package leo.command;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import leo.exception.LeoException;
+import leo.history.UndoRecord;
+import leo.storage.Storage;
+import leo.storage.TaskImporter;
+import leo.task.Task;
+import leo.task.TaskList;
+import leo.ui.Ui;
+
+/**
+ * ImportCommand adds the tasks in an external file to the task list.
+ * The file is read and parsed by a {@link TaskImporter}. Tasks already in the list and tasks repeated
+ * earlier in the file are skipped and counted apart, and the rest are appended in one batch and saved once.
+ */
+public class ImportCommand extends Command implements UndoableCommand {
+    private final String path;
+    private UndoRecord undoRecord;
+
+    /**
+     * Constructs an ImportCommand for the given file.
+     *
+     * @param path the path of the file to import, relative to the working directory or absolute
+     */
+    public ImportCommand(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Executes the command by importing every new task in the file.
+     * Reports progress while the file is read, then the number of tasks imported and skipped.
+     *
+     * @param tasks the task list to add the tasks to
+     * @param storage the storage for saving changes
+     * @param ui the UI for displaying progress and the result
+     * @throws LeoException if the path is invalid, the file cannot be read, or the list cannot be saved
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        Path source;
+        try {
+            source = Paths.get(path);
+        } catch (InvalidPathException e) {
+            throw new LeoException("Not a valid file path: " + path);
+        }
+
+        TaskImporter importer = new TaskImporter(source);
+        ArrayList<Task> parsed = importer.read(ui::printImportProgress);
+        int duplicateCount = tasks.countDuplicates(parsed);
+        ArrayList<Task> added = tasks.addAllUnique(parsed);
+        if (!added.isEmpty()) {
+            undoRecord = UndoRecord.ofBulkAdd(added);
+            storage.save(tasks);
+        }
+        int repeatedCount = parsed.size() - added.size() - duplicateCount;
+        ui.printImportResult(path, added.size(), duplicateCount, repeatedCount,
+                importer.getInvalidLineCount(), tasks.size());
+    }
+
+    /**
+     * Returns the record needed to reverse this command, or null if it has not added any tasks.
+     *
+     * @return the undo record
+     */
+    @Override
+    public UndoRecord getUndoRecord() {
+        return undoRecord;
+    }
+}
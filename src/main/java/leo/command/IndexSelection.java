@@ -0,0 +1,49 @@
+package leo.command;
+
+import java.util.BitSet;
+import leo.exception.LeoException;
+import leo.task.TaskList;
+
+/**
+ * IndexSelection identifies several tasks by position at once, as a list of single positions
+ * and inclusive ranges such as "3,7,9" or "1-500". Overlapping parts select a task only once.
+ */
+public class IndexSelection {
+    private final int[] starts;
+    private final int[] ends;
+
+    /**
+     * Constructs an IndexSelection from matching arrays of range bounds.
+     *
+     * @param starts the zero-based first position of each range
+     * @param ends the zero-based last position of each range, no smaller than its start
+     */
+    public IndexSelection(int[] starts, int[] ends) {
+        assert starts.length == ends.length && starts.length > 0 : "Ranges must be non-empty and paired";
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Finds the selected positions in the given list.
+     *
+     * @param tasks the task list to select from
+     * @param commandWord the command word for error messages
+     * @return the set of selected zero-based positions
+     * @throws LeoException if the list is empty or any selected position is past its end
+     */
+    public BitSet resolve(TaskList tasks, String commandWord) throws LeoException {
+        if (tasks.size() == 0) {
+            throw new LeoException("There are no tasks to " + commandWord + ".");
+        }
+        BitSet positions = new BitSet(tasks.size());
+        for (int i = 0; i < starts.length; i++) {
+            if (ends[i] >= tasks.size()) {
+                throw new LeoException("Please give task numbers from 1 to " + tasks.size() + " to " + commandWord
+                        + ".");
+            }
+            positions.set(starts[i], ends[i] + 1);
+        }
+        return positions;
+    }
+}
@@ -6,12 +6,38 @@ import leo.task.TaskList;
 import leo.ui.Ui;
 
 /**
- * ListCommand displays all tasks in the task list to the user.
+ * ListCommand displays the tasks in the task list to the user, optionally only those of one status.
  * This command does not modify the task list or storage.
  */
 public class ListCommand extends Command {
     /**
-     * Executes the list command by displaying all tasks.
+     * Filter selects which tasks a ListCommand shows.
+     */
+    public enum Filter {
+        ALL, DONE, PENDING
+    }
+
+    private final Filter filter;
+
+    /**
+     * Constructs a ListCommand that shows every task.
+     */
+    public ListCommand() {
+        this(Filter.ALL);
+    }
+
+    /**
+     * Constructs a ListCommand that shows the tasks selected by the given filter.
+     *
+     * @param filter the tasks to show
+     */
+    public ListCommand(Filter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Executes the list command by displaying the selected tasks.
+     * Done and pending tasks are looked up through the task list's status bitsets.
      *
      * @param tasks the task list to display
      * @param storage the storage (not used for this command)
@@ -20,6 +46,16 @@ public class ListCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
-        ui.printList(tasks.getAll());
+        switch (filter) {
+        case DONE:
+            ui.printStatusList("done", tasks.getDoneTasks());
+            break;
+        case PENDING:
+            ui.printStatusList("pending", tasks.getNotDoneTasks());
+            break;
+        default:
+            ui.printList(tasks.getAll());
+            break;
+        }
     }
 }
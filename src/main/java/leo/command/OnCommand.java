@@ -0,0 +1,40 @@
+package leo.command;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import leo.exception.LeoException;
+import leo.storage.Storage;
+import leo.task.TaskList;
+import leo.ui.Ui;
+import leo.util.DateTimeUtil;
+
+/**
+ * OnCommand lists the deadlines due and the events taking place on a single day.
+ * Matching tasks are looked up through the task list's time index and shown in time order.
+ */
+public class OnCommand extends Command {
+    private final LocalDate date;
+
+    /**
+     * Constructs an OnCommand for the given day.
+     *
+     * @param date the day to list tasks for
+     */
+    public OnCommand(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Executes the on command by displaying the deadlines and events on the day.
+     *
+     * @param tasks the task list to search
+     * @param storage the storage (not used for this command)
+     * @param ui the UI for displaying results
+     * @throws LeoException if the search fails
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        String period = "on " + DateTimeUtil.format(date.atStartOfDay());
+        ui.printTasksInPeriod(period, tasks.getTasksBetween(date.atStartOfDay(), date.atTime(LocalTime.MAX)));
+    }
+}
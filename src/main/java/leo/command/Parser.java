@@ -1,6 +1,7 @@
 package leo.command;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 import leo.exception.LeoException;
 import leo.history.CommandHistory;
@@ -9,13 +10,19 @@ import leo.util.DateTimeUtil;
 
 /**
  * Parser parses user input strings and converts them into appropriate Command objects.
- * It handles all supported commands: list, mark, unmark, delete, todo, deadline, event, undo, and bye.
+ * It handles all supported commands: list, mark, unmark, delete, todo, deadline, event, find, due, on,
+ * conflicts, import, undo, and bye.
  * The parser validates input format and throws LeoException for invalid commands.
+ *
+ * <p>Input is split into a {@link TokenStream} once, and every parseXxxCommand method reads
+ * from those tokens, so parsing a command involves no regular expressions.</p>
  */
 public class Parser {
 
-    private static final int TODO_PREFIX_LENGTH = 4; // Length of "todo"
-    private static final int EVENT_PREFIX_LENGTH = 5; // Length of "event"
+    private static final String ID_PREFIX = "#";
+    private static final int TIME_LENGTH = 4; // Length of "HHmm"
+    private static final String SELECTION_ERROR =
+            "Task numbers must be positive integers or ranges of them (e.g., 3,7,9 or 1-500).";
 
     private CommandHistory history;
 
@@ -50,50 +57,65 @@ public class Parser {
             throw new LeoException("Input cannot be empty.");
         }
 
+        TokenStream tokens = TokenStream.lex(trimmedInput);
+
         // Check for multiple consecutive spaces (except in descriptions)
-        if (trimmedInput.matches("\\S+\\s{2,}\\S+")) {
+        if (tokens.size() == 2 && tokens.gapBefore(1) >= 2) {
             throw new LeoException("Multiple spaces detected. Please use single spaces between command parts.");
         }
 
-        String[] parts = trimmedInput.split("\\s+", 2);
-        String commandWord = parts[0].toLowerCase();
+        String commandWord = tokens.get(0).toLowerCase();
 
         switch (commandWord) {
         case "list":
-            return new ListCommand();
+            return parseListCommand(tokens);
 
         case "mark":
-            Command markCmd = parseMarkCommand(trimmedInput);
+            Command markCmd = parseMarkCommand(tokens);
             history.addCommand(markCmd);
             return markCmd;
 
         case "unmark":
-            Command unmarkCmd = parseUnmarkCommand(trimmedInput);
+            Command unmarkCmd = parseUnmarkCommand(tokens);
             history.addCommand(unmarkCmd);
             return unmarkCmd;
 
         case "delete":
-            Command deleteCmd = parseDeleteCommand(trimmedInput);
+            Command deleteCmd = parseDeleteCommand(tokens);
             history.addCommand(deleteCmd);
             return deleteCmd;
 
         case "todo":
-            Command todoCmd = parseTodoCommand(trimmedInput);
+            Command todoCmd = parseTodoCommand(tokens);
             history.addCommand(todoCmd);
             return todoCmd;
 
         case "deadline":
-            Command deadlineCmd = parseDeadlineCommand(trimmedInput);
+            Command deadlineCmd = parseDeadlineCommand(tokens);
             history.addCommand(deadlineCmd);
             return deadlineCmd;
 
         case "event":
-            Command eventCmd = parseEventCommand(trimmedInput);
+            Command eventCmd = parseEventCommand(tokens);
             history.addCommand(eventCmd);
             return eventCmd;
 
         case "find":
-            return parseFindCommand(trimmedInput);
+            return parseFindCommand(tokens);
+
+        case "due":
+            return parseDueCommand(tokens);
+
+        case "on":
+            return parseOnCommand(tokens);
+
+        case "conflicts":
+            return new ConflictsCommand();
+
+        case "import":
+            Command importCmd = parseImportCommand(tokens);
+            history.addCommand(importCmd);
+            return importCmd;
 
         case "undo":
             return new UndoCommand(history);
@@ -103,55 +125,89 @@ public class Parser {
 
         default:
             throw new LeoException("Not a valid command. Please use one of the following commands:\n"
-                    + "todo, deadline, event, list, mark, unmark, delete, find, undo, bye");
+                    + "todo, deadline, event, list, mark, unmark, delete, find, due, on, conflicts, import, undo, bye");
         }
     }
 
     /**
-     * Parses the mark command input and returns a MarkCommand.
+     * Parses the list command input and returns a ListCommand.
+     * A following "done" or "pending" limits the listing to tasks of that status.
      *
-     * @param input the full mark command string
-     * @return a MarkCommand with the parsed task index
-     * @throws LeoException if the index is missing or invalid
+     * @param tokens the tokens of the list command
+     * @return a ListCommand with the parsed filter
+     * @throws LeoException if the filter is not recognized
      */
-    private Command parseMarkCommand(String input) throws LeoException {
-        int index = parseIndex(input, "mark");
-        return new MarkCommand(index);
+    private Command parseListCommand(TokenStream tokens) throws LeoException {
+        if (tokens.size() == 1) {
+            return new ListCommand();
+        }
+        switch (tokens.get(1).toLowerCase()) {
+        case "done":
+            return new ListCommand(ListCommand.Filter.DONE);
+        case "pending":
+            return new ListCommand(ListCommand.Filter.PENDING);
+        default:
+            throw new LeoException("Usage: list [done|pending]");
+        }
     }
 
     /**
-     * Parses the unmark command input and returns an UnmarkCommand.
+     * Parses the mark command input and returns a MarkCommand,
+     * or a BulkMarkCommand if several task numbers are given.
      *
-     * @param input the full unmark command string
-     * @return an UnmarkCommand with the parsed task index
-     * @throws LeoException if the index is missing or invalid
+     * @param tokens the tokens of the mark command
+     * @return a command marking the task with the parsed number or id, or the selected tasks
+     * @throws LeoException if the task number or id is missing or invalid
      */
-    private Command parseUnmarkCommand(String input) throws LeoException {
-        int index = parseIndex(input, "unmark");
-        return new UnmarkCommand(index);
+    private Command parseMarkCommand(TokenStream tokens) throws LeoException {
+        if (isIndexSelection(tokens)) {
+            return new BulkMarkCommand(parseIndexSelection(tokens), true);
+        }
+        TaskReference target = parseTaskReference(tokens, "mark");
+        return new MarkCommand(target);
     }
 
     /**
-     * Parses the delete command input and returns a DeleteCommand.
+     * Parses the unmark command input and returns an UnmarkCommand,
+     * or a BulkMarkCommand if several task numbers are given.
      *
-     * @param input the full delete command string
-     * @return a DeleteCommand with the parsed task index
-     * @throws LeoException if the index is missing or invalid
+     * @param tokens the tokens of the unmark command
+     * @return a command unmarking the task with the parsed number or id, or the selected tasks
+     * @throws LeoException if the task number or id is missing or invalid
      */
-    private Command parseDeleteCommand(String input) throws LeoException {
-        int index = parseIndex(input, "delete");
-        return new DeleteCommand(index);
+    private Command parseUnmarkCommand(TokenStream tokens) throws LeoException {
+        if (isIndexSelection(tokens)) {
+            return new BulkMarkCommand(parseIndexSelection(tokens), false);
+        }
+        TaskReference target = parseTaskReference(tokens, "unmark");
+        return new UnmarkCommand(target);
+    }
+
+    /**
+     * Parses the delete command input and returns a DeleteCommand,
+     * or a BulkDeleteCommand if several task numbers are given.
+     *
+     * @param tokens the tokens of the delete command
+     * @return a command deleting the task with the parsed number or id, or the selected tasks
+     * @throws LeoException if the task number or id is missing or invalid
+     */
+    private Command parseDeleteCommand(TokenStream tokens) throws LeoException {
+        if (isIndexSelection(tokens)) {
+            return new BulkDeleteCommand(parseIndexSelection(tokens));
+        }
+        TaskReference target = parseTaskReference(tokens, "delete");
+        return new DeleteCommand(target);
     }
 
     /**
      * Parses the todo command input and returns an AddTodoCommand.
      *
-     * @param input the full todo command string
+     * @param tokens the tokens of the todo command
      * @return an AddTodoCommand with the parsed description
      * @throws LeoException if the description is missing or empty
      */
-    private Command parseTodoCommand(String input) throws LeoException {
-        String desc = parseDescription(input, TODO_PREFIX_LENGTH, "todo");
+    private Command parseTodoCommand(TokenStream tokens) throws LeoException {
+        String desc = parseDescription(tokens, "todo");
         return new AddTodoCommand(desc);
     }
 
@@ -159,12 +215,12 @@ public class Parser {
      * Parses the deadline command input and returns an AddDeadlineCommand.
      * Extracts the description and deadline from the input.
      *
-     * @param input the full deadline command string
+     * @param tokens the tokens of the deadline command
      * @return an AddDeadlineCommand with the parsed description and deadline
      * @throws LeoException if the description or deadline is missing
      */
-    private Command parseDeadlineCommand(String input) throws LeoException {
-        String[] parts = parseDeadlineOrEventInput(input, "deadline", "/by");
+    private Command parseDeadlineCommand(TokenStream tokens) throws LeoException {
+        String[] parts = parseDeadlineOrEventInput(tokens, "deadline", "/by");
         String desc = parts[0];
         LocalDateTime by = DateTimeUtil.parseDateTime(parts[1]);
         return new AddDeadlineCommand(desc, by);
@@ -174,12 +230,12 @@ public class Parser {
      * Parses the event command input and returns an AddEventCommand.
      * Extracts the description, start time, and end time from the input.
      *
-     * @param input the full event command string
+     * @param tokens the tokens of the event command
      * @return an AddEventCommand with the parsed description and time range
      * @throws LeoException if any required part is missing
      */
-    private Command parseEventCommand(String input) throws LeoException {
-        String[] parts = parseEventInput(input);
+    private Command parseEventCommand(TokenStream tokens) throws LeoException {
+        String[] parts = parseEventInput(tokens);
         String desc = parts[0];
         LocalDateTime from = DateTimeUtil.parseDateTime(parts[1]);
         LocalDateTime to = DateTimeUtil.parseDateTime(parts[2]);
@@ -189,16 +245,15 @@ public class Parser {
     /**
      * Parses the find command input and returns a FindCommand.
      *
-     * @param input the full find command string
+     * @param tokens the tokens of the find command
      * @return a FindCommand with the parsed search keyword
      * @throws LeoException if the keyword is missing
      */
-    private Command parseFindCommand(String input) throws LeoException {
-        String[] parts = input.split("\\s+", 2);
-        if (parts.length < 2) {
+    private Command parseFindCommand(TokenStream tokens) throws LeoException {
+        if (tokens.size() < 2) {
             throw new LeoException("Usage: find <keyword>");
         }
-        String keyword = parts[1].trim();
+        String keyword = tokens.restFrom(1).trim();
         if (keyword.isEmpty()) {
             throw new LeoException("Usage: find <keyword>");
         }
@@ -206,29 +261,197 @@ public class Parser {
     }
 
     /**
-     * Parses the task index from a mark/unmark/delete command.
-     * Converts from 1-based user input to 0-based internal index.
+     * Parses the import command input and returns an ImportCommand.
+     * Everything after the command word is taken as the path, so the path may contain spaces.
+     *
+     * @param tokens the tokens of the import command
+     * @return an ImportCommand for the given file
+     * @throws LeoException if no path is given
+     */
+    private Command parseImportCommand(TokenStream tokens) throws LeoException {
+        if (tokens.size() < 2) {
+            throw new LeoException("Usage: import <file path>");
+        }
+        return new ImportCommand(tokens.restFrom(1).trim());
+    }
+
+    /**
+     * Parses the due command input and returns a DueCommand.
+     * The start and end are each a date, optionally followed by a time. An end given as a date alone
+     * includes the whole of that day.
+     *
+     * @param tokens the tokens of the due command
+     * @return a DueCommand for the parsed period
+     * @throws LeoException if either date/time is missing or invalid
+     */
+    private Command parseDueCommand(TokenStream tokens) throws LeoException {
+        int argCount = tokens.size() - 1;
+        if (argCount < 2 || argCount > 4) {
+            throw new LeoException("Usage: due <start> <end>");
+        }
+
+        // The start takes two tokens when it carries a time, which only a four-digit token can be
+        int fromTokens = argCount == 4 || (argCount == 3 && isTimeToken(tokens, 2)) ? 2 : 1;
+        String fromText = joinTokens(tokens, 1, 1 + fromTokens);
+        String toText = joinTokens(tokens, 1 + fromTokens, tokens.size());
+
+        LocalDateTime from = DateTimeUtil.parseDateTime(fromText);
+        LocalDateTime to = DateTimeUtil.parseDateTime(toText);
+        if (toText.indexOf(' ') < 0) {
+            to = to.toLocalDate().atTime(LocalTime.MAX);
+        }
+        return new DueCommand(from, to);
+    }
+
+    /**
+     * Parses the on command input and returns an OnCommand.
+     *
+     * @param tokens the tokens of the on command
+     * @return an OnCommand for the parsed day
+     * @throws LeoException if the date is missing or invalid
+     */
+    private Command parseOnCommand(TokenStream tokens) throws LeoException {
+        if (tokens.size() < 2) {
+            throw new LeoException("Usage: on <date>");
+        }
+        return new OnCommand(DateTimeUtil.parseDateTime(tokens.restFrom(1)).toLocalDate());
+    }
+
+    /**
+     * Returns true if the token at the given position looks like a HHmm time.
+     *
+     * @param tokens the tokens of the command
+     * @param index the position of the token
+     * @return true if the token is four digits
+     */
+    private boolean isTimeToken(TokenStream tokens, int index) {
+        return tokens.get(index).length() == TIME_LENGTH && tokens.isDigits(index, 0);
+    }
+
+    /**
+     * Joins a range of tokens with single spaces.
+     *
+     * @param tokens the tokens of the command
+     * @param from the position of the first token to join
+     * @param to the position just past the last token to join
+     * @return the joined tokens
+     */
+    private String joinTokens(TokenStream tokens, int from, int to) {
+        StringBuilder sb = new StringBuilder(tokens.get(from));
+        for (int i = from + 1; i < to; i++) {
+            sb.append(' ').append(tokens.get(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses the task reference from a mark/unmark/delete command.
+     * A number refers to a task by its position in the list, while "#" followed by a number refers to its id.
      *
-     * @param input the full command string
+     * @param tokens the tokens of the command
      * @param commandWord the command word for error messages
-     * @return the zero-based task index
-     * @throws LeoException if the index is missing, not a number, or contains invalid characters
+     * @return the reference to the task
+     * @throws LeoException if the task number or id is missing, not a number, or contains invalid characters
      */
-    private int parseIndex(String input, String commandWord) throws LeoException {
-        String[] parts = input.split("\\s+");
-        if (parts.length < 2) {
+    private TaskReference parseTaskReference(TokenStream tokens, String commandWord) throws LeoException {
+        if (tokens.size() < 2) {
             throw new LeoException("Usage: " + commandWord + " <task number>");
         }
-        
-        String indexStr = parts[1];
-        
+
+        if (tokens.get(1).startsWith(ID_PREFIX)) {
+            return TaskReference.ofId(parseId(tokens));
+        }
+        return TaskReference.ofIndex(parseIndex(tokens));
+    }
+
+    /**
+     * Returns true if the command selects several tasks, which it does when the first argument
+     * holds a "," between task numbers or a "-" forming a range.
+     *
+     * @param tokens the tokens of the command
+     * @return true if the arguments should be parsed as an index selection
+     */
+    private boolean isIndexSelection(TokenStream tokens) {
+        if (tokens.size() < 2) {
+            return false;
+        }
+        String argument = tokens.get(1);
+        return !argument.startsWith(ID_PREFIX) && (argument.indexOf(',') >= 0 || argument.indexOf('-') >= 0);
+    }
+
+    /**
+     * Parses a selection of task numbers such as "3,7,9" or "1-500" given by the user.
+     * Commas may be followed by spaces. Converts from 1-based user input to 0-based internal indexes.
+     *
+     * @param tokens the tokens of the command, with the selection starting at the second token
+     * @return the selection of task indexes
+     * @throws LeoException if any part is not a positive task number or a valid range
+     */
+    private IndexSelection parseIndexSelection(TokenStream tokens) throws LeoException {
+        String text = tokens.restFrom(1);
+        int partCount = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ',') {
+                partCount++;
+            }
+        }
+
+        int[] starts = new int[partCount];
+        int[] ends = new int[partCount];
+        int partStart = 0;
+        for (int i = 0; i < partCount; i++) {
+            int partEnd = text.indexOf(',', partStart);
+            String part = text.substring(partStart, partEnd < 0 ? text.length() : partEnd).trim();
+            int dash = part.indexOf('-');
+            starts[i] = parseSelectedNumber(dash < 0 ? part : part.substring(0, dash)) - 1;
+            ends[i] = dash < 0 ? starts[i] : parseSelectedNumber(part.substring(dash + 1)) - 1;
+            if (ends[i] < starts[i]) {
+                throw new LeoException("A range must go from a lower to a higher task number (e.g., 1-5).");
+            }
+            partStart = partEnd + 1;
+        }
+        return new IndexSelection(starts, ends);
+    }
+
+    /**
+     * Parses one task number of a selection.
+     *
+     * @param text the text of the number
+     * @return the 1-based task number
+     * @throws LeoException if the text is not a positive integer
+     */
+    private int parseSelectedNumber(String text) throws LeoException {
+        boolean isDigits = !text.isEmpty();
+        for (int i = 0; i < text.length() && isDigits; i++) {
+            isDigits = text.charAt(i) >= '0' && text.charAt(i) <= '9';
+        }
+        try {
+            int number = isDigits ? Integer.parseInt(text) : 0;
+            if (number <= 0) {
+                throw new LeoException(SELECTION_ERROR);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new LeoException(SELECTION_ERROR);
+        }
+    }
+
+    /**
+     * Parses a task number given by the user.
+     * Converts from 1-based user input to 0-based internal index.
+     *
+     * @param tokens the tokens of the command, with the task number as the second token
+     * @return the zero-based task index
+     * @throws LeoException if the task number is not a positive integer
+     */
+    private int parseIndex(TokenStream tokens) throws LeoException {
         // Check for non-numeric characters
-        if (!indexStr.matches("\\d+")) {
+        if (!tokens.isDigits(1, 0)) {
             throw new LeoException("Task number must be a positive integer (e.g., 1, 2, 3).");
         }
         
         try {
-            int index = Integer.parseInt(indexStr);
+            int index = Integer.parseInt(tokens.get(1));
             if (index <= 0) {
                 throw new LeoException("Task number must be a positive integer (e.g., 1, 2, 3).");
             }
@@ -238,18 +461,39 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses a task id given by the user.
+     *
+     * @param tokens the tokens of the command, with the "#"-prefixed task id as the second token
+     * @return the task id
+     * @throws LeoException if the id is not a positive integer
+     */
+    private long parseId(TokenStream tokens) throws LeoException {
+        if (!tokens.isDigits(1, ID_PREFIX.length())) {
+            throw new LeoException("Task id must be a positive integer (e.g., #1, #2, #3).");
+        }
+
+        try {
+            long id = Long.parseLong(tokens.get(1).substring(ID_PREFIX.length()));
+            if (id <= 0) {
+                throw new LeoException("Task id must be a positive integer (e.g., #1, #2, #3).");
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new LeoException("Task id must be a positive integer (e.g., #1, #2, #3).");
+        }
+    }
+
     /**
      * Parses the description from a todo command.
      *
-     * @param input the full command string
-     * @param prefixLength the length of the command prefix to skip
+     * @param tokens the tokens of the command
      * @param commandWord the command word for error messages
      * @return the task description
      * @throws LeoException if the description is empty
      */
-    private String parseDescription(String input, int prefixLength, String commandWord) throws LeoException {
-        boolean hasDescription = input.length() > prefixLength;
-        String desc = hasDescription ? input.substring(prefixLength).trim() : "";
+    private String parseDescription(TokenStream tokens, String commandWord) throws LeoException {
+        String desc = tokens.restAfter(0).trim();
 
         if (desc.isEmpty()) {
             throw new LeoException("The description of a " + commandWord + " cannot be empty.");
@@ -260,15 +504,15 @@ public class Parser {
     /**
      * Parses the description and deadline from a deadline command.
      *
-     * @param input the full command string
+     * @param tokens the tokens of the command
      * @param commandWord the command word for error messages
      * @param timeKeyword the keyword separating description from deadline (e.g., "/by")
      * @return a string array with description at index 0 and deadline at index 1
      * @throws LeoException if description or deadline is missing
      */
-    private String[] parseDeadlineOrEventInput(String input, String commandWord, String timeKeyword)
+    private String[] parseDeadlineOrEventInput(TokenStream tokens, String commandWord, String timeKeyword)
             throws LeoException {
-        String rest = input.substring(commandWord.length()).trim();
+        String rest = tokens.restAfter(0).trim();
         if (rest.isEmpty()) {
             throw new LeoException("The description of a " + commandWord + " cannot be empty.");
         }
@@ -289,12 +533,12 @@ public class Parser {
     /**
      * Parses the description, start time, and end time from an event command.
      *
-     * @param input the full event command string
+     * @param tokens the tokens of the event command
      * @return a string array with description, start time, and end time
      * @throws LeoException if any part is missing or malformed
      */
-    private String[] parseEventInput(String input) throws LeoException {
-        String rest = input.substring(EVENT_PREFIX_LENGTH).trim();
+    private String[] parseEventInput(TokenStream tokens) throws LeoException {
+        String rest = tokens.restAfter(0).trim();
 
         // Guard clause: check description exists
         if (rest.isEmpty()) {
@@ -0,0 +1,74 @@
+package leo.command;
+
+import leo.exception.LeoException;
+import leo.task.TaskList;
+
+/**
+ * TaskReference identifies the task a command acts on, either by its position in the list
+ * or by its stable id. Positions shift as tasks are deleted, while ids stay with their task.
+ */
+public class TaskReference {
+    private final int index;
+    private final long id;
+    private final boolean isById;
+
+    private TaskReference(int index, long id, boolean isById) {
+        this.index = index;
+        this.id = id;
+        this.isById = isById;
+    }
+
+    /**
+     * Returns a reference to the task at the given position.
+     *
+     * @param index the zero-based index of the task
+     * @return the task reference
+     */
+    public static TaskReference ofIndex(int index) {
+        return new TaskReference(index, 0, false);
+    }
+
+    /**
+     * Returns a reference to the task with the given id.
+     *
+     * @param id the id of the task
+     * @return the task reference
+     */
+    public static TaskReference ofId(long id) {
+        return new TaskReference(-1, id, true);
+    }
+
+    /**
+     * Returns true if this reference identifies its task by id.
+     *
+     * @return true for id references, false for position references
+     */
+    public boolean isById() {
+        return isById;
+    }
+
+    /**
+     * Finds the current position of the referenced task in the given list.
+     *
+     * @param tasks the task list to look in
+     * @param commandWord the command word for error messages
+     * @return the zero-based index of the task
+     * @throws LeoException if the list is empty or the task is not in it
+     */
+    public int resolve(TaskList tasks, String commandWord) throws LeoException {
+        if (tasks.size() == 0) {
+            throw new LeoException("There are no tasks to " + commandWord + ".");
+        }
+        if (isById) {
+            int found = tasks.indexOf(id);
+            if (found < 0) {
+                throw new LeoException("There is no task with id #" + id + " to " + commandWord + ".");
+            }
+            return found;
+        }
+        if (index < 0 || index >= tasks.size()) {
+            throw new LeoException("Please give a valid task number to " + commandWord + ".");
+        }
+        return index;
+    }
+}
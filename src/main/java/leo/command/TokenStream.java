@@ -0,0 +1,163 @@
+package leo.command;
+
+import java.util.Arrays;
+
+/**
+ * TokenStream splits a line of user input into whitespace-separated tokens in a single pass.
+ * Tokens are kept as offsets into the original line, so reading one does not copy the rest,
+ * and the text after any token can still be taken as-is for descriptions and keywords.
+ *
+ * <p>Whitespace here means the characters matched by the regular expression class {@code \s},
+ * so the tokens are exactly the pieces produced by splitting on {@code \s+}.</p>
+ */
+public class TokenStream {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final String input;
+    private int[] starts;
+    private int[] ends;
+    private int count;
+
+    private TokenStream(String input) {
+        this.input = input;
+        this.starts = new int[INITIAL_CAPACITY];
+        this.ends = new int[INITIAL_CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Splits the given input into tokens.
+     *
+     * @param input the line to split, which should already be trimmed
+     * @return the tokens of the line
+     */
+    public static TokenStream lex(String input) {
+        TokenStream tokens = new TokenStream(input);
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            tokens.addToken(start, i);
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the line the tokens were taken from.
+     *
+     * @return the input line
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the number of tokens in the line.
+     *
+     * @return the token count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the text of the token at the given position.
+     *
+     * @param index the zero-based position of the token
+     * @return the token text
+     */
+    public String get(int index) {
+        assert index >= 0 && index < count : "Token index out of range: " + index;
+        return input.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * Returns the line from the start of the token at the given position to its end.
+     *
+     * @param index the zero-based position of the token
+     * @return the rest of the line, starting with that token
+     */
+    public String restFrom(int index) {
+        assert index >= 0 && index < count : "Token index out of range: " + index;
+        return input.substring(starts[index]);
+    }
+
+    /**
+     * Returns the line after the end of the token at the given position, including the whitespace after it.
+     *
+     * @param index the zero-based position of the token
+     * @return the rest of the line after that token
+     */
+    public String restAfter(int index) {
+        assert index >= 0 && index < count : "Token index out of range: " + index;
+        return input.substring(ends[index]);
+    }
+
+    /**
+     * Returns the number of whitespace characters between the given token and the one before it.
+     *
+     * @param index the zero-based position of the token, which must not be the first
+     * @return the length of the gap before the token
+     */
+    public int gapBefore(int index) {
+        assert index > 0 && index < count : "Token index out of range: " + index;
+        return starts[index] - ends[index - 1];
+    }
+
+    /**
+     * Returns true if the token at the given position is made up only of ASCII digits.
+     *
+     * @param index the zero-based position of the token
+     * @param offset the number of characters to skip at the start of the token
+     * @return true if the rest of the token is one or more digits
+     */
+    public boolean isDigits(int index, int offset) {
+        assert index >= 0 && index < count : "Token index out of range: " + index;
+        int start = starts[index] + offset;
+        if (start >= ends[index]) {
+            return false;
+        }
+        for (int i = start; i < ends[index]; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a token.
+     *
+     * @param start the index of the token's first character
+     * @param end the index just after the token's last character
+     */
+    private void addToken(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    /**
+     * Returns true for the characters matched by the regular expression class {@code \s}.
+     *
+     * @param c the character to check
+     * @return true if the character separates tokens
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
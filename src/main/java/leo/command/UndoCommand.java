@@ -1,14 +1,19 @@
 package leo.command;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import leo.exception.LeoException;
 import leo.history.CommandHistory;
+import leo.history.UndoRecord;
 import leo.storage.Storage;
+import leo.task.Task;
 import leo.task.TaskList;
 import leo.ui.Ui;
 
 /**
  * UndoCommand undoes the most recent command that modified the task list.
- * It uses the CommandHistory to track and reverse command effects.
+ * It uses the CommandHistory to find that command and the {@link UndoRecord} the command kept
+ * to reverse its effect exactly, finding tasks by id so later changes cannot shift them.
  */
 public class UndoCommand extends Command {
     private CommandHistory history;
@@ -23,68 +28,156 @@ public class UndoCommand extends Command {
     }
 
     /**
-     * Executes the undo operation by reversing the last command.
+     * Executes the undo operation by reversing the last command that changed the task list.
+     * Commands in the history that failed, and so changed nothing, are skipped.
      *
      * @param tasks the task list to modify
      * @param storage the storage for persisting changes
      * @param ui the UI for displaying results
-     * @throws LeoException if undo fails
+     * @throws LeoException if there is nothing to undo or the change can no longer be reversed
      */
     @Override
     public void execute(TaskList tasks, Storage storage, Ui ui) throws LeoException {
-        if (!history.canUndo()) {
-            throw new LeoException("Nothing to undo.");
+        while (history.canUndo()) {
+            Command lastCommand = history.getLastCommand();
+            history.undo();
+
+            UndoRecord record = lastCommand instanceof UndoableCommand
+                    ? ((UndoableCommand) lastCommand).getUndoRecord()
+                    : null;
+            if (record != null) {
+                undoRecord(record, tasks, storage, ui);
+                return;
+            }
+        }
+        throw new LeoException("Nothing to undo.");
+    }
+
+    /**
+     * Reverses the change described by the given record.
+     *
+     * @param record the record of the change to reverse
+     * @param tasks the task list to modify
+     * @param storage the storage for persisting changes
+     * @param ui the UI for displaying results
+     * @throws LeoException if the affected task is no longer in the list or the change cannot be saved
+     */
+    private void undoRecord(UndoRecord record, TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        if (record.getKind() == UndoRecord.Kind.DELETE) {
+            Task restored = record.getRemovedTask();
+            int index = tasks.restore(restored);
+            storage.recordInsert(tasks, index, restored);
+            ui.printUndo("Undone delete command. Task restored as task " + (index + 1) + ".");
+            return;
+        }
+
+        if (record.getKind() == UndoRecord.Kind.BULK_DELETE) {
+            for (Task restored : record.getRemovedTasks()) {
+                tasks.restore(restored);
+            }
+            storage.save(tasks);
+            ui.printUndo("Undone delete command. " + record.getRemovedTasks().size() + " tasks restored.");
+            return;
+        }
+        if (record.getKind() == UndoRecord.Kind.BULK_ADD) {
+            undoBulkAdd(record, tasks, storage, ui);
+            return;
+        }
+        if (record.getKind() == UndoRecord.Kind.BULK_MARK || record.getKind() == UndoRecord.Kind.BULK_UNMARK) {
+            undoBulkStatusChange(record, tasks, storage, ui);
+            return;
+        }
+
+        int index = tasks.indexOf(record.getTaskId());
+        if (index < 0) {
+            throw new LeoException("The task changed by that command no longer exists.");
         }
 
-        Command lastCommand = history.getLastCommand();
-        history.undo();
+        switch (record.getKind()) {
+        case ADD:
+            tasks.remove(index);
+            storage.recordDelete(tasks, index);
+            ui.printUndo("Undone add command. Task removed.");
+            break;
 
-        // Undo the command by reversing its effect
-        undoCommand(lastCommand, tasks, storage, ui);
+        case MARK:
+            if (record.wasDone()) {
+                ui.printUndo("Undone mark command. Task was already done.");
+                break;
+            }
+            tasks.markAsNotDone(index);
+            storage.recordUnmark(tasks, index);
+            ui.printUndo("Undone mark command. Task marked as not done.");
+            break;
+
+        case UNMARK:
+            if (!record.wasDone()) {
+                ui.printUndo("Undone unmark command. Task was already not done.");
+                break;
+            }
+            tasks.markAsDone(index);
+            storage.recordMark(tasks, index);
+            ui.printUndo("Undone unmark command. Task marked as done.");
+            break;
+
+        default:
+            ui.printUndo("Command type cannot be undone.");
+            break;
+        }
     }
 
     /**
-     * Undoes the effect of the given command.
+     * Removes every task added by a bulk addition in a single pass, saving the list once.
+     * Tasks deleted since then are skipped.
      *
-     * @param command the command to undo
+     * @param record the record of the bulk addition
      * @param tasks the task list to modify
      * @param storage the storage for persisting changes
      * @param ui the UI for displaying results
-     * @throws LeoException if undo fails
+     * @throws LeoException if the change cannot be saved
      */
-    private void undoCommand(Command command, TaskList tasks, Storage storage, Ui ui) throws LeoException {
-        // For add commands, we remove the last added task
-        if (command instanceof UndoableAddCommand) {
-            UndoableAddCommand addCommand = (UndoableAddCommand) command;
-            int taskCount = tasks.size();
-            if (taskCount > 0) {
-                tasks.remove(taskCount - 1);
-                storage.save(tasks);
-                ui.printUndo("Undone add command. Task removed.");
+    private void undoBulkAdd(UndoRecord record, TaskList tasks, Storage storage, Ui ui) throws LeoException {
+        BitSet positions = new BitSet(tasks.size());
+        for (long id : record.getTaskIds()) {
+            int index = tasks.indexOf(id);
+            if (index >= 0) {
+                positions.set(index);
             }
-        } else if (command instanceof UndoableMarkCommand) {
-            UndoableMarkCommand markCommand = (UndoableMarkCommand) command;
-            int index = markCommand.getTaskIndex();
-            if (index >= 0 && index < tasks.size()) {
-                tasks.get(index).markAsNotDone();
-                storage.save(tasks);
-                ui.printUndo("Undone mark command. Task marked as not done.");
+        }
+        ArrayList<Task> removed = tasks.removeAll(positions);
+        storage.save(tasks);
+        ui.printUndo("Undone import command. " + removed.size() + " tasks removed.");
+    }
+
+    /**
+     * Puts every task changed by a bulk mark or unmark back to its previous status, saving the list once.
+     * Tasks deleted since then are skipped.
+     *
+     * @param record the record of the bulk change
+     * @param tasks the task list to modify
+     * @param storage the storage for persisting changes
+     * @param ui the UI for displaying results
+     * @throws LeoException if the change cannot be saved
+     */
+    private void undoBulkStatusChange(UndoRecord record, TaskList tasks, Storage storage, Ui ui)
+            throws LeoException {
+        int restoredCount = 0;
+        for (long id : record.getTaskIds()) {
+            Task task = tasks.getById(id);
+            if (task == null) {
+                continue;
             }
-        } else if (command instanceof UndoableUnmarkCommand) {
-            UndoableUnmarkCommand unmarkCommand = (UndoableUnmarkCommand) command;
-            int index = unmarkCommand.getTaskIndex();
-            if (index >= 0 && index < tasks.size()) {
-                tasks.get(index).markAsDone();
-                storage.save(tasks);
-                ui.printUndo("Undone unmark command. Task marked as done.");
+            if (record.wasDone()) {
+                task.markAsDone();
+            } else {
+                task.markAsNotDone();
             }
-        } else if (command instanceof UndoableDeleteCommand) {
-            UndoableDeleteCommand deleteCommand = (UndoableDeleteCommand) command;
-            int index = deleteCommand.getTaskIndex();
-            // Note: This is a simplified undo - we can't fully restore without storing the deleted task
-            ui.printUndo("Delete command cannot be fully undone. Task was at index " + (index + 1));
-        } else {
-            ui.printUndo("Command type cannot be undone.");
+            restoredCount++;
         }
+        storage.save(tasks);
+
+        boolean isMarkUndone = record.getKind() == UndoRecord.Kind.BULK_MARK;
+        ui.printUndo("Undone " + (isMarkUndone ? "mark" : "unmark") + " command. " + restoredCount + " tasks marked as "
+                + (record.wasDone() ? "done." : "not done."));
     }
 }
@@ -1,7 +0,0 @@
-package leo.command;
-
-/**
- * Marker interface for add commands that can be undone.
- */
-public interface UndoableAddCommand {
-}
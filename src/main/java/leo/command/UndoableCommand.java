@@ -0,0 +1,15 @@
+package leo.command;
+
+import leo.history.UndoRecord;
+
+/**
+ * Interface for commands whose change to the task list can be undone.
+ */
+public interface UndoableCommand {
+    /**
+     * Returns the record needed to reverse the change this command made.
+     *
+     * @return the undo record, or null if the command has not run successfully
+     */
+    UndoRecord getUndoRecord();
+}
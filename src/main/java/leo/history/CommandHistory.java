@@ -3,19 +3,59 @@ package leo.history;
 import java.util.ArrayList;
 import java.util.List;
 import leo.command.Command;
+import leo.command.UndoableCommand;
 
 /**
  * CommandHistory tracks the history of executed commands for undo functionality.
  * It maintains a list of executed commands and allows undoing the most recent command.
+ *
+ * <p>Commands that change the task list keep a compact {@link UndoRecord} of how to reverse the change,
+ * so each history entry costs a few fields, plus the removed tasks or the ids of the changed tasks for a
+ * bulk change. The history holds at most a fixed number of entries, and at most a fixed total record size
+ * as given by {@link UndoRecord#getSize()}, and forgets the oldest entries first, which bounds its memory use.
+ * The newest entry is always kept so that it can be undone.</p>
  */
 public class CommandHistory {
+    /** The number of entries kept by default. */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /** The total size of the undo records kept by default, counted in tasks or task ids. */
+    public static final int DEFAULT_SIZE_BUDGET = 100_000;
+
+    private final int capacity;
+    private final int sizeBudget;
     private List<Command> history;
     private int currentIndex;
 
     /**
-     * Constructs a new CommandHistory with empty history.
+     * Constructs a new CommandHistory with empty history, the default capacity and the default size budget.
      */
     public CommandHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new CommandHistory with empty history that keeps at most the given number of entries,
+     * within the default size budget.
+     *
+     * @param capacity the largest number of commands to remember
+     */
+    public CommandHistory(int capacity) {
+        this(capacity, DEFAULT_SIZE_BUDGET);
+    }
+
+    /**
+     * Constructs a new CommandHistory with empty history that keeps at most the given number of entries,
+     * whose undo records hold at most the given number of tasks or task ids in total.
+     *
+     * @param capacity the largest number of commands to remember
+     * @param sizeBudget the largest total size of the undo records to keep
+     */
+    public CommandHistory(int capacity, int sizeBudget) {
+        assert capacity > 0 : "Capacity must be positive";
+        assert sizeBudget > 0 : "Size budget must be positive";
+        this.capacity = capacity;
+        this.sizeBudget = sizeBudget;
         this.history = new ArrayList<>();
         this.currentIndex = -1;
     }
@@ -23,16 +63,57 @@ public class CommandHistory {
     /**
      * Adds a command to the history.
      * If we're not at the end of history (after some undos), truncates the history first.
+     * Once the history is over its capacity or size budget, the oldest commands are forgotten.
      *
      * @param command the command to add
      */
     public void addCommand(Command command) {
         // If we've undone some commands, remove the "future" history
         if (currentIndex < history.size() - 1) {
-            history = new ArrayList<>(history.subList(0, currentIndex + 1));
+            history.subList(currentIndex + 1, history.size()).clear();
         }
         history.add(command);
         currentIndex++;
+        evictOldest();
+    }
+
+    /**
+     * Forgets the oldest commands until the history is within its capacity and size budget.
+     * Commands are added before they run, so the newest command counts as size 1 here;
+     * its full size is counted from the next addition on.
+     */
+    private void evictOldest() {
+        long totalSize = 0;
+        for (Command command : history) {
+            totalSize += sizeOf(command);
+        }
+
+        int evicted = 0;
+        while (history.size() - evicted > 1
+                && (history.size() - evicted > capacity || totalSize > sizeBudget)) {
+            totalSize -= sizeOf(history.get(evicted));
+            evicted++;
+        }
+        if (evicted > 0) {
+            history.subList(0, evicted).clear();
+            currentIndex -= evicted;
+        }
+    }
+
+    /**
+     * Returns the size a command takes up in the history.
+     *
+     * @param command the command
+     * @return the size of its undo record, or 1 if it has none
+     */
+    private static int sizeOf(Command command) {
+        if (command instanceof UndoableCommand) {
+            UndoRecord record = ((UndoableCommand) command).getUndoRecord();
+            if (record != null) {
+                return record.getSize();
+            }
+        }
+        return 1;
     }
 
     /**
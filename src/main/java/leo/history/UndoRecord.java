@@ -0,0 +1,224 @@
+package leo.history;
+
+import java.util.List;
+import leo.task.Task;
+
+/**
+ * UndoRecord is the inverse of one change to the task list, kept by the command that made the change.
+ * It holds only what is needed to reverse the change exactly: the id of the affected task,
+ * its done status before the change, or, for a deletion, the removed task, whose id fixes its position.
+ * Records of bulk changes hold the ids of the tasks that were added or whose status changed, or the removed tasks.
+ */
+public final class UndoRecord {
+    /**
+     * Kind is the change that a record reverses.
+     */
+    public enum Kind {
+        ADD, MARK, UNMARK, DELETE, BULK_ADD, BULK_MARK, BULK_UNMARK, BULK_DELETE
+    }
+
+    private final Kind kind;
+    private final long taskId;
+    private final boolean wasDone;
+    private final Task removedTask;
+    private final long[] taskIds;
+    private final List<Task> removedTasks;
+
+    /**
+     * Constructs an UndoRecord.
+     *
+     * @param kind the change this record reverses
+     * @param taskId the id of the affected task
+     * @param wasDone whether the task was done before the change
+     * @param removedTask the removed task for a deletion, otherwise null
+     * @param taskIds the ids of the tasks a bulk addition added or a bulk change changed, otherwise null
+     * @param removedTasks the tasks removed by a bulk deletion, otherwise null
+     */
+    private UndoRecord(Kind kind, long taskId, boolean wasDone, Task removedTask, long[] taskIds,
+            List<Task> removedTasks) {
+        this.kind = kind;
+        this.taskId = taskId;
+        this.wasDone = wasDone;
+        this.removedTask = removedTask;
+        this.taskIds = taskIds;
+        this.removedTasks = removedTasks;
+    }
+
+    /**
+     * Constructs an UndoRecord of a change to a single task.
+     *
+     * @param kind the change this record reverses
+     * @param taskId the id of the affected task
+     * @param wasDone whether the task was done before the change
+     * @param removedTask the removed task for a deletion, otherwise null
+     */
+    private UndoRecord(Kind kind, long taskId, boolean wasDone, Task removedTask) {
+        this(kind, taskId, wasDone, removedTask, null, null);
+    }
+
+    /**
+     * Creates the record of a task being added.
+     *
+     * @param taskId the id of the added task
+     * @return the record
+     */
+    public static UndoRecord ofAdd(long taskId) {
+        return new UndoRecord(Kind.ADD, taskId, false, null);
+    }
+
+    /**
+     * Creates the record of a task being marked as done.
+     *
+     * @param taskId the id of the marked task
+     * @param wasDone whether the task was already done before
+     * @return the record
+     */
+    public static UndoRecord ofMark(long taskId, boolean wasDone) {
+        return new UndoRecord(Kind.MARK, taskId, wasDone, null);
+    }
+
+    /**
+     * Creates the record of a task being marked as not done.
+     *
+     * @param taskId the id of the unmarked task
+     * @param wasDone whether the task was done before
+     * @return the record
+     */
+    public static UndoRecord ofUnmark(long taskId, boolean wasDone) {
+        return new UndoRecord(Kind.UNMARK, taskId, wasDone, null);
+    }
+
+    /**
+     * Creates the record of a task being deleted.
+     *
+     * @param removedTask the task that was removed, which keeps its id
+     * @return the record
+     */
+    public static UndoRecord ofDelete(Task removedTask) {
+        return new UndoRecord(Kind.DELETE, removedTask.getId(), removedTask.isDone(), removedTask);
+    }
+
+    /**
+     * Creates the record of several tasks being added at once.
+     *
+     * @param addedTasks the tasks that were added
+     * @return the record
+     */
+    public static UndoRecord ofBulkAdd(List<Task> addedTasks) {
+        return new UndoRecord(Kind.BULK_ADD, 0, false, null, toIds(addedTasks), null);
+    }
+
+    /**
+     * Creates the record of several tasks being marked as done.
+     *
+     * @param changedTasks the tasks that were not done before
+     * @return the record
+     */
+    public static UndoRecord ofBulkMark(List<Task> changedTasks) {
+        return new UndoRecord(Kind.BULK_MARK, 0, false, null, toIds(changedTasks), null);
+    }
+
+    /**
+     * Creates the record of several tasks being marked as not done.
+     *
+     * @param changedTasks the tasks that were done before
+     * @return the record
+     */
+    public static UndoRecord ofBulkUnmark(List<Task> changedTasks) {
+        return new UndoRecord(Kind.BULK_UNMARK, 0, true, null, toIds(changedTasks), null);
+    }
+
+    /**
+     * Creates the record of several tasks being deleted.
+     *
+     * @param removedTasks the tasks that were removed, which keep their ids
+     * @return the record
+     */
+    public static UndoRecord ofBulkDelete(List<Task> removedTasks) {
+        return new UndoRecord(Kind.BULK_DELETE, 0, false, null, null, removedTasks);
+    }
+
+    /**
+     * Collects the ids of the given tasks.
+     *
+     * @param tasks the tasks
+     * @return their ids, in the same order
+     */
+    private static long[] toIds(List<Task> tasks) {
+        long[] ids = new long[tasks.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = tasks.get(i).getId();
+        }
+        return ids;
+    }
+
+    /**
+     * Returns an estimate of how much this record holds, as the number of tasks or task ids in it.
+     * A record of a change to a single task, or of a bulk change that changed nothing, counts as one.
+     *
+     * @return the size of this record, at least 1
+     */
+    public int getSize() {
+        if (taskIds != null) {
+            return Math.max(1, taskIds.length);
+        }
+        if (removedTasks != null) {
+            return Math.max(1, removedTasks.size());
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the change this record reverses.
+     *
+     * @return the kind of change
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the id of the affected task.
+     *
+     * @return the task id
+     */
+    public long getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Returns whether the task was done before the change.
+     *
+     * @return the previous done status
+     */
+    public boolean wasDone() {
+        return wasDone;
+    }
+
+    /**
+     * Returns the task removed by a deletion.
+     *
+     * @return the removed task, or null for other changes
+     */
+    public Task getRemovedTask() {
+        return removedTask;
+    }
+
+    /**
+     * Returns the ids of the tasks a bulk addition added or a bulk change changed.
+     *
+     * @return the task ids, or null for other changes
+     */
+    public long[] getTaskIds() {
+        return taskIds;
+    }
+
+    /**
+     * Returns the tasks removed by a bulk deletion.
+     *
+     * @return the removed tasks, or null for other changes
+     */
+    public List<Task> getRemovedTasks() {
+        return removedTasks;
+    }
+}
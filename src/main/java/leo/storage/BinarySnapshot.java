@@ -0,0 +1,287 @@
+package leo.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import leo.task.Deadline;
+import leo.task.Event;
+import leo.task.Task;
+import leo.task.Todo;
+
+/**
+ * BinarySnapshot reads and writes the compact binary snapshot format.
+ * Times are stored as minutes since the epoch, so loading does not go through date/time text parsing.
+ *
+ * <p>Layout: the magic bytes "LEOB", a version byte, the snapshot generation as a long,
+ * the id the list gives out next as a long, and the task count as an int,
+ * followed by one record per task: a type byte ('T', 'D', or 'E'),
+ * a done byte (0 or 1), the task id as a varint, the UTF-8 description prefixed by its varint length,
+ * and then one long for a Deadline's due time or two longs for an Event's start and end times.
+ * Version 1 files have no generation and are read as generation 0, files before version 3
+ * have no task ids, and files before version 4 have no next id.</p>
+ */
+public class BinarySnapshot {
+    private static final byte[] MAGIC = {'L', 'E', 'O', 'B'};
+    private static final int VERSION = 4;
+    private static final int VERSION_WITHOUT_GENERATION = 1;
+    private static final int VERSION_WITHOUT_IDS = 2;
+    private static final int VERSION_WITHOUT_NEXT_ID = 3;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /**
+     * Returns true if the file starts with the binary snapshot magic bytes.
+     *
+     * @param path the file to check
+     * @return true if the file is a binary snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isBinary(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] header = in.readNBytes(MAGIC.length);
+            return Arrays.equals(header, MAGIC);
+        }
+    }
+
+    /**
+     * Writes the given tasks to a file in the binary snapshot format.
+     *
+     * @param path the file to write
+     * @param tasks the tasks to write, in order
+     * @param generation the generation of the snapshot
+     * @param nextId the id the list gives out next
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, List<Task> tasks, long generation, long nextId) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(generation);
+            out.writeLong(nextId);
+            out.writeInt(tasks.size());
+            for (Task task : tasks) {
+                writeTask(out, task);
+            }
+        }
+    }
+
+    /**
+     * Reads every task from a binary snapshot file.
+     *
+     * @param path the file to read
+     * @return the tasks in the file, in order
+     * @throws IOException if the file cannot be read, is truncated, or has an unsupported version
+     */
+    public static ArrayList<Task> read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = readVersion(in, path);
+            if (version != VERSION_WITHOUT_GENERATION) {
+                in.readLong(); // Generation
+            }
+            if (version > VERSION_WITHOUT_NEXT_ID) {
+                in.readLong(); // Next id
+            }
+            boolean hasIds = version > VERSION_WITHOUT_IDS;
+            int count = in.readInt();
+            ArrayList<Task> tasks = new ArrayList<>(Math.max(count, 0));
+            for (int i = 0; i < count; i++) {
+                tasks.add(readTask(in, hasIds));
+            }
+            return tasks;
+        }
+    }
+
+    /**
+     * Reads the generation of a binary snapshot file from its header.
+     *
+     * @param path the file to read
+     * @return the generation of the snapshot, or 0 for a version 1 file
+     * @throws IOException if the file cannot be read or has an unsupported version
+     */
+    public static long readGeneration(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = readVersion(in, path);
+            return version == VERSION_WITHOUT_GENERATION ? 0 : in.readLong();
+        }
+    }
+
+    /**
+     * Reads the id the saved list gives out next from the header of a binary snapshot file.
+     *
+     * @param path the file to read
+     * @return the next id, or 0 for a file written before it was saved
+     * @throws IOException if the file cannot be read or has an unsupported version
+     */
+    public static long readNextId(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = readVersion(in, path);
+            if (version <= VERSION_WITHOUT_NEXT_ID) {
+                return 0;
+            }
+            in.readLong(); // Generation
+            return in.readLong();
+        }
+    }
+
+    /**
+     * Reads and checks the magic bytes and version at the start of the file.
+     *
+     * @param in the stream positioned at the start of the file
+     * @param path the file being read, for error messages
+     * @return the version of the file
+     * @throws IOException if the header is not that of a supported binary snapshot
+     */
+    private static int readVersion(DataInputStream in, Path path) throws IOException {
+        byte[] header = in.readNBytes(MAGIC.length);
+        if (!Arrays.equals(header, MAGIC)) {
+            throw new IOException("Not a binary snapshot: " + path);
+        }
+        int version = in.readUnsignedByte();
+        if (version < VERSION_WITHOUT_GENERATION || version > VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + version + ": " + path);
+        }
+        return version;
+    }
+
+    /**
+     * Writes a single task record.
+     *
+     * @param out the stream to write to
+     * @param task the task to write
+     * @throws IOException if writing fails
+     */
+    private static void writeTask(DataOutputStream out, Task task) throws IOException {
+        out.writeByte(task.getType().getSymbol().charAt(0));
+        out.writeByte(task.isDone() ? 1 : 0);
+        writeVarint(out, (int) task.getId());
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, description.length);
+        out.write(description);
+
+        switch (task.getType()) {
+        case DEADLINE:
+            out.writeLong(toEpochMinute(((Deadline) task).getBy()));
+            break;
+
+        case EVENT:
+            Event event = (Event) task;
+            out.writeLong(toEpochMinute(event.getFrom()));
+            out.writeLong(toEpochMinute(event.getTo()));
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Reads a single task record.
+     *
+     * @param in the stream to read from
+     * @param hasIds true if the record holds a task id
+     * @return the task in the record
+     * @throws IOException if the record is truncated or has an unknown type
+     */
+    private static Task readTask(DataInputStream in, boolean hasIds) throws IOException {
+        int typeCode = in.readUnsignedByte();
+        boolean isDone = in.readUnsignedByte() == 1;
+        int id = hasIds ? readVarint(in) : 0;
+        byte[] descriptionBytes = new byte[readVarint(in)];
+        in.readFully(descriptionBytes);
+        String description = new String(descriptionBytes, StandardCharsets.UTF_8);
+
+        Task task;
+        switch (typeCode) {
+        case 'T':
+            task = new Todo(description);
+            break;
+
+        case 'D':
+            task = new Deadline(description, fromEpochMinute(in.readLong()));
+            break;
+
+        case 'E':
+            LocalDateTime from = fromEpochMinute(in.readLong());
+            task = new Event(description, from, fromEpochMinute(in.readLong()));
+            break;
+
+        default:
+            throw new IOException("Unknown task type in binary snapshot: " + typeCode);
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+        if (id > 0) {
+            task.setStoredId(id);
+        }
+        return task;
+    }
+
+    /**
+     * Writes a non-negative int using 7 bits per byte, low bits first.
+     *
+     * @param out the stream to write to
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarint(DataOutputStream, int)}.
+     *
+     * @param in the stream to read from
+     * @return the value read
+     * @throws IOException if the value is truncated or too long
+     */
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length in binary snapshot");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed length in binary snapshot");
+    }
+
+    /**
+     * Converts a date/time to whole minutes since the epoch, ignoring seconds.
+     *
+     * @param dt the date/time to convert
+     * @return the number of minutes since 1970-01-01T00:00
+     */
+    private static long toEpochMinute(LocalDateTime dt) {
+        return Math.floorDiv(dt.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Converts minutes since the epoch back to a date/time.
+     *
+     * @param epochMinute the number of minutes since 1970-01-01T00:00
+     * @return the corresponding date/time
+     */
+    private static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
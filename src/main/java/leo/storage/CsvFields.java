@@ -0,0 +1,131 @@
+package leo.storage;
+
+import java.util.ArrayList;
+
+/**
+ * CsvFields splits a comma-separated line into the same fields as a stored line, in the same order:
+ * type, done status, description, and any time fields.
+ * A field may be wrapped in double quotes so that it can contain commas, with a doubled quote
+ * standing for a quote inside it. Quoted fields cannot span lines.
+ *
+ * <p>As with {@link FieldScanner}, whitespace around each field is ignored and trailing empty fields
+ * are dropped, so a line means the same task whichever format it is written in.</p>
+ */
+public class CsvFields implements LineFields {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final ArrayList<String> fields;
+    private final StringBuilder quoted;
+
+    /**
+     * Constructs a CsvFields with no fields.
+     */
+    public CsvFields() {
+        this.fields = new ArrayList<>();
+        this.quoted = new StringBuilder();
+    }
+
+    /**
+     * Scans a comma-separated line and records its fields.
+     * A blank line has no fields.
+     *
+     * @param line the line to scan
+     * @return the number of fields in the line
+     */
+    @Override
+    public int scan(String line) {
+        fields.clear();
+        if (line.isBlank()) {
+            return 0;
+        }
+
+        int position = 0;
+        while (true) {
+            position = readField(line, position);
+            if (position >= line.length()) {
+                break;
+            }
+            position++; // Skip the separator
+        }
+
+        int count = fields.size();
+        while (count > 0 && fields.get(count - 1).isEmpty()) {
+            fields.remove(--count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the field starting at the given position and records it.
+     *
+     * @param line the line being scanned
+     * @param start the index the field starts at
+     * @return the index of the separator after the field, or the length of the line
+     */
+    private int readField(String line, int start) {
+        int position = start;
+        while (position < line.length() && line.charAt(position) <= ' ') {
+            position++;
+        }
+        if (position == line.length() || line.charAt(position) != QUOTE) {
+            int end = line.indexOf(SEPARATOR, position);
+            end = end < 0 ? line.length() : end;
+            fields.add(line.substring(position, end).trim());
+            return end;
+        }
+
+        quoted.setLength(0);
+        position++;
+        while (position < line.length()) {
+            char c = line.charAt(position++);
+            if (c != QUOTE) {
+                quoted.append(c);
+            } else if (position < line.length() && line.charAt(position) == QUOTE) {
+                quoted.append(QUOTE);
+                position++;
+            } else {
+                break;
+            }
+        }
+        fields.add(quoted.toString().trim());
+
+        int end = line.indexOf(SEPARATOR, position);
+        return end < 0 ? line.length() : end;
+    }
+
+    /**
+     * Returns the number of fields in the current line.
+     *
+     * @return the field count
+     */
+    @Override
+    public int getFieldCount() {
+        return fields.size();
+    }
+
+    /**
+     * Returns the field at the given position.
+     *
+     * @param index the zero-based field position
+     * @return the field text, without surrounding whitespace or quotes
+     */
+    @Override
+    public String field(int index) {
+        assert index >= 0 && index < fields.size() : "Field index out of range: " + index;
+        return fields.get(index);
+    }
+
+    /**
+     * Returns true if the field at the given position is exactly the given text.
+     *
+     * @param index the zero-based field position
+     * @param expected the text to compare against
+     * @return true if the field equals the expected text
+     */
+    @Override
+    public boolean fieldEquals(int index, String expected) {
+        assert index >= 0 && index < fields.size() : "Field index out of range: " + index;
+        return fields.get(index).equals(expected);
+    }
+}
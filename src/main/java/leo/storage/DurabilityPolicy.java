@@ -0,0 +1,18 @@
+package leo.storage;
+
+/**
+ * DurabilityPolicy is an enumeration of how often Storage forces written data to the disk.
+ * Snapshots are always written to a temporary file and renamed over the old one, so a crash
+ * never leaves a half-written snapshot; the policy only decides when data is fsynced, trading
+ * write latency against how much can be lost if the machine itself goes down.
+ */
+public enum DurabilityPolicy {
+    /** Every snapshot and every journal record is fsynced before the write returns. */
+    ALWAYS,
+
+    /** Snapshots are fsynced, and journal records are fsynced in groups and on flush. */
+    BATCHED,
+
+    /** Nothing is fsynced; the operating system decides when data reaches the disk. */
+    NEVER
+}
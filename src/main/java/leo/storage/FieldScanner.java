@@ -0,0 +1,136 @@
+package leo.storage;
+
+import java.util.Arrays;
+
+/**
+ * FieldScanner splits a stored line into its pipe-delimited fields without using regular expressions.
+ * It records the bounds of each field in reusable arrays, so scanning a line allocates nothing
+ * and callers only create strings for the fields they actually need.
+ *
+ * <p>The fields match those produced by {@code line.trim().split("\\s*\\|\\s*")}:
+ * whitespace around each pipe is ignored and trailing empty fields are dropped.</p>
+ */
+public class FieldScanner implements LineFields {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String line;
+    private int[] starts;
+    private int[] ends;
+    private int fieldCount;
+
+    /**
+     * Constructs a FieldScanner with room for a typical number of fields.
+     */
+    public FieldScanner() {
+        this.starts = new int[INITIAL_CAPACITY];
+        this.ends = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Scans a line and records the bounds of its fields.
+     * A blank line has no fields.
+     *
+     * @param line the line to scan
+     * @return the number of fields in the line
+     */
+    @Override
+    public int scan(String line) {
+        this.line = line;
+        this.fieldCount = 0;
+
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+
+        int fieldStart = start;
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) == '|') {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        addField(fieldStart, end);
+
+        while (fieldCount > 0 && starts[fieldCount - 1] == ends[fieldCount - 1]) {
+            fieldCount--;
+        }
+        return fieldCount;
+    }
+
+    /**
+     * Returns the number of fields found by the last scan.
+     *
+     * @return the field count
+     */
+    @Override
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns the field at the given position.
+     *
+     * @param index the zero-based field position
+     * @return the field text, without surrounding whitespace
+     */
+    @Override
+    public String field(int index) {
+        assert index >= 0 && index < fieldCount : "Field index out of range: " + index;
+        return line.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * Returns true if the field at the given position is exactly the given text.
+     * Compares in place without creating a string for the field.
+     *
+     * @param index the zero-based field position
+     * @param expected the text to compare against
+     * @return true if the field equals the expected text
+     */
+    @Override
+    public boolean fieldEquals(int index, String expected) {
+        assert index >= 0 && index < fieldCount : "Field index out of range: " + index;
+        int length = ends[index] - starts[index];
+        return length == expected.length() && line.regionMatches(starts[index], expected, 0, length);
+    }
+
+    /**
+     * Records a field, excluding the whitespace between it and the surrounding pipes.
+     *
+     * @param start the index just after the previous pipe, or the start of the line
+     * @param end the index of the next pipe, or the end of the line
+     */
+    private void addField(int start, int end) {
+        while (start < end && isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Returns true for the characters matched by the regular expression class {@code \s}.
+     *
+     * @param c the character to check
+     * @return true if the character is whitespace
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,128 @@
+package leo.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Journal is an append-only log of task list mutations kept next to the snapshot file.
+ * Each mutation is written as a single line, so recording a change costs one small append
+ * instead of rewriting every task in the snapshot.
+ */
+public class Journal {
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final Path journalPath;
+    private int recordCount;
+
+    /**
+     * Constructs a Journal for the given snapshot file.
+     * The journal is stored alongside the snapshot with a ".journal" suffix.
+     *
+     * @param snapshotPath the path to the snapshot file this journal belongs to
+     */
+    public Journal(Path snapshotPath) {
+        this.journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_SUFFIX);
+        this.recordCount = 0;
+    }
+
+    /**
+     * Appends a single record to the end of the journal.
+     * Creates the journal file if it doesn't exist yet.
+     *
+     * @param record the record to append, without a trailing line separator
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(String record) throws IOException {
+        append(record, false);
+    }
+
+    /**
+     * Appends a single record to the end of the journal, optionally forcing it to the disk.
+     * Creates the journal file if it doesn't exist yet.
+     *
+     * @param record the record to append, without a trailing line separator
+     * @param isSynced true to fsync the journal before returning
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(String record, boolean isSynced) throws IOException {
+        byte[] bytes = (record + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isSynced) {
+                channel.force(false);
+            }
+        }
+        recordCount++;
+    }
+
+    /**
+     * Forces every record appended so far to the disk.
+     * Does nothing if there is no journal file.
+     *
+     * @throws IOException if the journal cannot be synced
+     */
+    public void sync() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Reads all records currently in the journal, in the order they were appended.
+     * Returns an empty list if there is no journal file.
+     *
+     * @return the list of journal records
+     * @throws IOException if the journal exists but cannot be read
+     */
+    public List<String> readRecords() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return new ArrayList<>();
+        }
+        List<String> records = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        recordCount = records.size();
+        return records;
+    }
+
+    /**
+     * Removes all records from the journal.
+     * Called after the snapshot has been rewritten and already contains every journaled change.
+     *
+     * @throws IOException if the journal file cannot be deleted
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalPath);
+        recordCount = 0;
+    }
+
+    /**
+     * Returns the number of records appended since the journal was last cleared.
+     *
+     * @return the journal record count
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the path of the journal file.
+     *
+     * @return the journal file path
+     */
+    public Path getPath() {
+        return journalPath;
+    }
+}
@@ -0,0 +1,16 @@
+package leo.storage;
+
+/**
+ * LineFields is a {@link StoredFields} view that is filled by scanning one line of text at a time.
+ * It lets a line-by-line reader work the same way whatever the field layout of the file.
+ */
+public interface LineFields extends StoredFields {
+    /**
+     * Scans a line and records its fields, replacing those of the previous line.
+     * A blank line has no fields.
+     *
+     * @param line the line to scan
+     * @return the number of fields in the line
+     */
+    int scan(String line);
+}
@@ -0,0 +1,174 @@
+package leo.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import leo.exception.LeoException;
+import leo.task.Task;
+
+/**
+ * SaveScheduler performs Storage writes on a background thread so callers never wait on the disk.
+ * Writes run in the order they were requested. A snapshot write is held back for up to the
+ * configured delay, and further snapshot requests arriving in that time replace it,
+ * so a burst of mutations results in a single write of the latest state.
+ *
+ * <p>Write failures cannot be thrown on the background thread, so the most recent one
+ * is reported by the next call to {@link #flush()} or to a request method.</p>
+ */
+public class SaveScheduler {
+    private final Storage storage;
+    private final long maxDelayMillis;
+    private final ArrayDeque<PendingWrite> queue;
+    private final Thread worker;
+    private boolean isWriting;
+    private boolean isFlushRequested;
+    private LeoException lastError;
+
+    /**
+     * Constructs a SaveScheduler writing through the given storage and starts its worker thread.
+     *
+     * @param storage the storage that performs the actual writes
+     * @param maxDelayMillis the longest time a snapshot write is held back to coalesce later requests
+     */
+    public SaveScheduler(Storage storage, long maxDelayMillis) {
+        assert maxDelayMillis >= 0 : "Delay cannot be negative";
+        this.storage = storage;
+        this.maxDelayMillis = maxDelayMillis;
+        this.queue = new ArrayDeque<>();
+        this.worker = new Thread(this::runWorker, "leo-save");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Requests that the given tasks be written as the new snapshot.
+     * If a snapshot write is already waiting at the end of the queue, it is replaced by this one.
+     *
+     * @param snapshot the tasks to write, which must not be modified afterwards
+     * @throws LeoException if an earlier background write failed
+     */
+    public synchronized void requestSnapshot(ArrayList<Task> snapshot) throws LeoException {
+        throwLastError();
+        PendingWrite last = queue.peekLast();
+        if (last != null && last.snapshot != null) {
+            last.snapshot = snapshot;
+            return;
+        }
+        queue.addLast(new PendingWrite(snapshot, null, System.currentTimeMillis() + maxDelayMillis));
+        notifyAll();
+    }
+
+    /**
+     * Requests that the given record be appended to the journal.
+     *
+     * @param record the journal record to append
+     * @throws LeoException if an earlier background write failed
+     */
+    public synchronized void requestAppend(String record) throws LeoException {
+        throwLastError();
+        queue.addLast(new PendingWrite(null, record, System.currentTimeMillis()));
+        notifyAll();
+    }
+
+    /**
+     * Performs every requested write immediately and waits until they are done.
+     *
+     * @throws LeoException if any background write failed
+     */
+    public synchronized void flush() throws LeoException {
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (!queue.isEmpty() || isWriting) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LeoException("Interrupted while saving tasks.");
+        } finally {
+            isFlushRequested = false;
+        }
+        throwLastError();
+    }
+
+    /**
+     * Throws and clears the most recent background write failure, if any.
+     *
+     * @throws LeoException if a background write failed
+     */
+    private void throwLastError() throws LeoException {
+        if (lastError != null) {
+            LeoException error = lastError;
+            lastError = null;
+            throw error;
+        }
+    }
+
+    /**
+     * Takes writes off the queue in order and performs them, waiting out the delay of snapshot writes.
+     */
+    private void runWorker() {
+        while (true) {
+            PendingWrite next;
+            try {
+                next = takeNext();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                if (next.snapshot != null) {
+                    storage.writeSnapshot(next.snapshot);
+                } else {
+                    storage.appendToJournal(next.record);
+                }
+            } catch (LeoException e) {
+                synchronized (this) {
+                    lastError = e;
+                }
+            }
+
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until the write at the head of the queue is due, then removes and returns it.
+     *
+     * @return the next write to perform
+     * @throws InterruptedException if the worker thread is interrupted
+     */
+    private synchronized PendingWrite takeNext() throws InterruptedException {
+        while (true) {
+            PendingWrite head = queue.peekFirst();
+            if (head == null) {
+                wait();
+                continue;
+            }
+            long remaining = head.dueTime - System.currentTimeMillis();
+            if (remaining > 0 && !isFlushRequested) {
+                wait(remaining);
+                continue;
+            }
+            isWriting = true;
+            return queue.pollFirst();
+        }
+    }
+
+    /**
+     * PendingWrite is a write waiting in the queue: either a snapshot or a journal record.
+     */
+    private static final class PendingWrite {
+        private ArrayList<Task> snapshot;
+        private final String record;
+        private final long dueTime;
+
+        private PendingWrite(ArrayList<Task> snapshot, String record, long dueTime) {
+            this.snapshot = snapshot;
+            this.record = record;
+            this.dueTime = dueTime;
+        }
+    }
+}
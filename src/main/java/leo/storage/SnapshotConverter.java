@@ -0,0 +1,51 @@
+package leo.storage;
+
+import leo.exception.LeoException;
+import leo.task.TaskList;
+
+/**
+ * SnapshotConverter converts save files between the text and binary snapshot formats.
+ * It loads the source with its format detected automatically and saves it in the requested format.
+ */
+public class SnapshotConverter {
+    /**
+     * Converts a save file into the given format.
+     * Any journal next to the source file is applied before converting.
+     *
+     * @param sourcePath the path of the save file to convert
+     * @param targetPath the path to write the converted save file to
+     * @param targetFormat the format to write
+     * @return the number of tasks converted
+     * @throws LeoException if the source cannot be read or the target cannot be written
+     */
+    public static int convert(String sourcePath, String targetPath, SnapshotFormat targetFormat)
+            throws LeoException {
+        TaskList tasks = new Storage(sourcePath).load();
+        Storage target = new Storage(targetPath);
+        target.setSnapshotFormat(targetFormat);
+        target.save(tasks);
+        return tasks.size();
+    }
+
+    /**
+     * Converts a save file from the command line.
+     * Usage: SnapshotConverter text|binary &lt;source&gt; &lt;target&gt;
+     *
+     * @param args the target format, the source path, and the target path
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("Usage: SnapshotConverter text|binary <source> <target>");
+            return;
+        }
+        try {
+            SnapshotFormat format = SnapshotFormat.valueOf(args[0].toUpperCase());
+            int count = convert(args[1], args[2], format);
+            System.out.println("Converted " + count + " tasks to " + args[2]);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown format: " + args[0] + ". Use text or binary.");
+        } catch (LeoException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package leo.storage;
+
+/**
+ * SnapshotFormat is an enumeration of the file formats Storage can write snapshots in.
+ * Loading detects the format automatically, so either format can be read back.
+ */
+public enum SnapshotFormat {
+    /** The human-readable pipe-delimited format, one task per line. */
+    TEXT,
+
+    /** The compact binary format written by {@link BinarySnapshot}. */
+    BINARY
+}
@@ -1,11 +1,17 @@
 package leo.storage;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 import leo.exception.LeoException;
@@ -19,7 +25,35 @@ import leo.util.DateTimeUtil;
 /**
  * Storage handles persistence of tasks to and from a file.
  * It supports saving and loading Todo, Deadline, and Event tasks.
- * Tasks are stored in a pipe-delimited format with type, done status, description, and optional time fields.
+ * Tasks are stored in a pipe-delimited format with type, done status, description, optional time fields,
+ * and the task id, below a header line holding the generation of the snapshot and the id the list
+ * gives out next, so that ids of deleted tasks are not reused after a restart.
+ *
+ * <p>In journal mode, single mutations are appended to a {@link Journal} instead of rewriting
+ * the whole file. The journal is replayed on load and compacted back into the snapshot
+ * once it grows past the configured threshold.</p>
+ *
+ * <p>Every snapshot carries a generation number, one more than that of the snapshot it replaces,
+ * and every journal record is tagged with the generation of the snapshot that will include it.
+ * Replay skips records at or below the generation of the loaded snapshot, so a journal that outlived
+ * its compaction, because the process stopped between renaming the new snapshot into place and
+ * clearing the journal, is never applied twice. Snapshots and records written before generations
+ * existed count as generation 0 and 1 respectively.</p>
+ *
+ * <p>Snapshots can also be written in the {@link BinarySnapshot} format; load detects which
+ * format the file uses.</p>
+ *
+ * <p>With asynchronous saving enabled, writes are handed to a {@link SaveScheduler} and performed
+ * on a background thread, and {@link #flush()} waits for them to finish. Snapshots copy the list
+ * when requested but share its Task objects, so a snapshot written late may already include later
+ * mark or unmark changes; replaying those journal records again leaves the tasks unchanged.</p>
+ *
+ * <p>Snapshots are written to a temporary file that is then renamed over the old snapshot, so the
+ * file on disk always holds either the old or the new tasks in full. In journal mode, the generation
+ * numbers keep a journal left behind by a compaction that stopped after the rename from being replayed,
+ * so loading after a crash at any point gives either the old or the new tasks. The {@link DurabilityPolicy}
+ * decides when data is fsynced, and the latency of writes under each policy is kept in
+ * {@link WriteStats}.</p>
  */
 public class Storage {
     private static final String TODO_CODE = "T";
@@ -28,8 +62,34 @@ public class Storage {
     private static final String DONE_MARKER = "1";
     private static final String NOT_DONE_MARKER = "0";
     private static final String DELIMITER = " | ";
+    private static final String ADD_OP = "ADD";
+    private static final String MARK_OP = "MARK";
+    private static final String UNMARK_OP = "UNMARK";
+    private static final String DELETE_OP = "DELETE";
+    private static final String INSERT_OP = "INSERT";
+    private static final String GENERATION_CODE = "GENERATION";
+    private static final String ID_PREFIX = "#";
+    private static final int MAX_ID_DIGITS = 10; // Digits in Integer.MAX_VALUE
+    private static final long LEGACY_RECORD_GENERATION = 1;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int JOURNAL_SYNC_INTERVAL = 64;
 
     private final Path filePath;
+    private final Path tempPath;
+    private final Journal journal;
+    private final FieldScanner scanner;
+    private boolean isJournalEnabled;
+    private int compactionThreshold;
+    private SnapshotFormat snapshotFormat;
+    private SaveScheduler saveScheduler;
+    private int journalRecordCount;
+    private DurabilityPolicy durabilityPolicy;
+    private int unsyncedJournalRecords;
+    private long generation;
+    private long nextTaskId;
+    private boolean isDeferringWrites;
+    private boolean hasDeferredChanges;
+    private final EnumMap<DurabilityPolicy, WriteStats> writeStats;
 
     /**
      * Constructs a Storage instance with the specified file path.
@@ -38,26 +98,161 @@ public class Storage {
      */
     public Storage(String relativePath) {
         this.filePath = Paths.get(relativePath);
+        this.tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        this.journal = new Journal(filePath);
+        this.scanner = new FieldScanner();
+        this.nextTaskId = 1;
+        this.snapshotFormat = SnapshotFormat.TEXT;
+        this.isJournalEnabled = false;
+        this.durabilityPolicy = DurabilityPolicy.BATCHED;
+        this.writeStats = new EnumMap<>(DurabilityPolicy.class);
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            writeStats.put(policy, new WriteStats());
+        }
+    }
+
+    /**
+     * Switches this storage to journal mode.
+     * Mutations recorded through the record methods are appended to the journal,
+     * and the snapshot is rewritten once the journal holds the given number of records.
+     *
+     * @param compactionThreshold the number of journal records that triggers a compaction
+     */
+    public void enableJournal(int compactionThreshold) {
+        assert compactionThreshold > 0 : "Compaction threshold must be positive";
+        this.isJournalEnabled = true;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Moves every write onto a background thread.
+     * Snapshot requests made within the given delay of each other are coalesced into one write.
+     *
+     * @param maxDelayMillis the longest time a snapshot write is held back
+     */
+    public void enableAsyncSave(long maxDelayMillis) {
+        assert saveScheduler == null : "Asynchronous saving is already enabled";
+        this.saveScheduler = new SaveScheduler(this, maxDelayMillis);
+    }
+
+    /**
+     * Holds back every write until {@link #checkpoint(TaskList)} is called.
+     * Saves and recorded mutations only note that the tasks have changed,
+     * so a long run of commands costs a single snapshot write per checkpoint.
+     */
+    public void deferWrites() {
+        this.isDeferringWrites = true;
+    }
+
+    /**
+     * Sets when written data is forced to the disk.
+     *
+     * @param durabilityPolicy the durability policy to use
+     */
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        assert durabilityPolicy != null : "Durability policy cannot be null";
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * Returns the latency numbers of the writes performed under the given durability policy.
+     *
+     * @param policy the durability policy the writes were performed under
+     * @return the write statistics for that policy
+     */
+    public WriteStats getWriteStats(DurabilityPolicy policy) {
+        return writeStats.get(policy);
+    }
+
+    /**
+     * Sets the format used when {@link #save(TaskList)} writes the snapshot.
+     *
+     * @param snapshotFormat the snapshot format to write
+     */
+    public void setSnapshotFormat(SnapshotFormat snapshotFormat) {
+        assert snapshotFormat != null : "Snapshot format cannot be null";
+        this.snapshotFormat = snapshotFormat;
     }
 
     /**
      * Loads tasks from the storage file.
      * If the file doesn't exist, returns an empty TaskList.
      * If the file is corrupted, skips invalid lines and continues loading.
+     * Binary snapshots are detected by their header and read with {@link BinarySnapshot}.
+     * Any journal left next to the file is replayed on top of the snapshot.
      *
      * @return a TaskList containing all loaded tasks
      * @throws LeoException if the file cannot be read due to permission issues
      */
     public TaskList load() throws LeoException {
         ArrayList<Task> tasks = new ArrayList<>();
+        generation = 0;
+        nextTaskId = 1;
 
-        if (!Files.exists(filePath)) {
-            return new TaskList(tasks);
+        if (Files.exists(filePath)) {
+            if (isBinarySnapshot()) {
+                loadBinarySnapshot(tasks);
+            } else {
+                loadSnapshot(tasks);
+            }
         }
+        replayJournal(tasks);
+        return new TaskList(tasks, nextTaskId);
+    }
 
-        List<String> lines;
+    /**
+     * Returns true if the snapshot file is in the binary format.
+     *
+     * @return true if the file starts with the binary snapshot header
+     * @throws LeoException if the file cannot be read
+     */
+    private boolean isBinarySnapshot() throws LeoException {
         try {
-            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+            return BinarySnapshot.isBinary(filePath);
+        } catch (java.nio.file.AccessDeniedException e) {
+            throw new LeoException("Access denied to save file: " + filePath
+                    + ". Please check file permissions.");
+        } catch (IOException e) {
+            throw new LeoException("Cannot read save file: " + filePath
+                    + ". The file may be in use or corrupted.");
+        }
+    }
+
+    /**
+     * Reads every task in the binary snapshot file into the given list.
+     *
+     * @param tasks the list to add the loaded tasks to
+     * @throws LeoException if the file cannot be read or is corrupted
+     */
+    private void loadBinarySnapshot(ArrayList<Task> tasks) throws LeoException {
+        try {
+            generation = BinarySnapshot.readGeneration(filePath);
+            nextTaskId = BinarySnapshot.readNextId(filePath);
+            tasks.addAll(BinarySnapshot.read(filePath));
+        } catch (IOException e) {
+            throw new LeoException("Cannot read save file: " + filePath
+                    + ". The file may be in use or corrupted.");
+        }
+    }
+
+    /**
+     * Reads every task in the snapshot file into the given list.
+     * The file is streamed line by line, so it is never held in memory as a whole.
+     *
+     * @param tasks the list to add the loaded tasks to
+     * @throws LeoException if the file cannot be read
+     */
+    private void loadSnapshot(ArrayList<Task> tasks) throws LeoException {
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Task parsed = parseLine(line);
+                if (parsed != null) {
+                    tasks.add(parsed);
+                } else {
+                    readGenerationHeader(scanner);
+                }
+            }
         } catch (java.nio.file.AccessDeniedException e) {
             throw new LeoException("Access denied to save file: " + filePath 
                     + ". Please check file permissions.");
@@ -65,40 +260,281 @@ public class Storage {
             throw new LeoException("Cannot read save file: " + filePath 
                     + ". The file may be in use or corrupted.");
         }
+    }
+
+    /**
+     * Takes the snapshot generation and the next task id from the given fields if they are the
+     * generation header line. Any other line is ignored.
+     *
+     * @param fields the fields of a line that is not a task
+     */
+    private void readGenerationHeader(StoredFields fields) {
+        if (!isGenerationHeader(fields)) {
+            return;
+        }
+        try {
+            generation = Long.parseLong(fields.field(1));
+        } catch (NumberFormatException e) {
+            // A corrupted header leaves the generation at 0, so every journal record is replayed
+        }
+        if (fields.getFieldCount() == 3) {
+            keepIdsBelow(parseStoredId(ID_PREFIX + fields.field(2)));
+        }
+    }
+
+    /**
+     * Returns true if the given fields are those of the generation header line of a text snapshot.
+     * Headers written before the next task id was saved have only the generation.
+     *
+     * @param fields the fields of a line
+     * @return true if the line is the generation header
+     */
+    static boolean isGenerationHeader(StoredFields fields) {
+        int fieldCount = fields.getFieldCount();
+        return (fieldCount == 2 || fieldCount == 3) && fields.fieldEquals(0, GENERATION_CODE);
+    }
+
+    /**
+     * Raises the first id the loaded list may give out to at least the given one.
+     *
+     * @param firstFreeId an id no task has had yet, or 0 if unknown
+     */
+    private void keepIdsBelow(long firstFreeId) {
+        if (firstFreeId > 0 && firstFreeId <= Integer.MAX_VALUE) {
+            nextTaskId = Math.max(nextTaskId, firstFreeId);
+        }
+    }
+
+    /**
+     * Applies every record in the journal, in order, to the tasks loaded from the snapshot.
+     * Records that are corrupted or refer to a missing task are skipped, as are records
+     * the snapshot already includes because their generation is not above its own.
+     *
+     * @param tasks the tasks loaded from the snapshot
+     * @throws LeoException if the journal cannot be read or contains a corrupted date/time
+     */
+    private void replayJournal(ArrayList<Task> tasks) throws LeoException {
+        List<String> records;
+        try {
+            records = journal.readRecords();
+            journalRecordCount = records.size();
+        } catch (IOException e) {
+            throw new LeoException("Cannot read journal file: " + journal.getPath()
+                    + ". The file may be in use or corrupted.");
+        }
 
-        for (String raw : lines) {
-            String line = raw.trim();
-            if (line.isEmpty()) {
+        for (String raw : records) {
+            String record = raw.trim();
+            long recordGeneration = LEGACY_RECORD_GENERATION;
+            if (!record.isEmpty() && Character.isDigit(record.charAt(0))) {
+                int generationEnd = record.indexOf('|');
+                if (generationEnd == -1) {
+                    continue;
+                }
+                try {
+                    recordGeneration = Long.parseLong(record.substring(0, generationEnd).trim());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                record = record.substring(generationEnd + 1).trim();
+            }
+            if (recordGeneration <= generation) {
                 continue;
             }
 
-            Task parsed = parseLine(line);
-            if (parsed != null) {
-                tasks.add(parsed);
+            int opEnd = record.indexOf('|');
+            if (opEnd == -1) {
+                continue;
             }
+            String op = record.substring(0, opEnd).trim();
+            String argument = record.substring(opEnd + 1).trim();
+            applyRecord(tasks, op, argument);
         }
-        return new TaskList(tasks);
     }
 
     /**
-     * Saves all tasks in the TaskList to the storage file.
-     * Creates parent directories if they don't exist.
+     * Applies a single journal record to the list of tasks.
+     *
+     * @param tasks the tasks to modify
+     * @param op the operation code of the record
+     * @param argument the serialized task for additions, the task index and serialized task for
+     *     insertions, or the task index otherwise
+     * @throws LeoException if an added task contains a corrupted date/time
+     */
+    private void applyRecord(ArrayList<Task> tasks, String op, String argument) throws LeoException {
+        if (op.equals(ADD_OP)) {
+            Task added = parseLine(argument);
+            if (added != null) {
+                tasks.add(added);
+                keepIdsBelow(added.getId() + 1);
+            }
+            return;
+        }
+        if (op.equals(INSERT_OP)) {
+            applyInsert(tasks, argument);
+            return;
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (index < 0 || index >= tasks.size()) {
+            return;
+        }
+
+        switch (op) {
+        case MARK_OP:
+            tasks.get(index).markAsDone();
+            break;
+
+        case UNMARK_OP:
+            tasks.get(index).markAsNotDone();
+            break;
+
+        case DELETE_OP:
+            tasks.remove(index);
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Applies an insertion record, whose argument is the task index followed by the serialized task.
+     *
+     * @param tasks the tasks to modify
+     * @param argument the task index and serialized task
+     * @throws LeoException if the task contains a corrupted date/time
+     */
+    private void applyInsert(ArrayList<Task> tasks, String argument) throws LeoException {
+        int indexEnd = argument.indexOf('|');
+        if (indexEnd == -1) {
+            return;
+        }
+        int index;
+        try {
+            index = Integer.parseInt(argument.substring(0, indexEnd).trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        Task inserted = parseLine(argument.substring(indexEnd + 1).trim());
+        if (inserted != null && index >= 0 && index <= tasks.size()) {
+            tasks.add(index, inserted);
+            keepIdsBelow(inserted.getId() + 1);
+        }
+    }
+
+    /**
+     * Saves all tasks in the TaskList to the storage file, in the configured snapshot format.
+     * With asynchronous saving enabled, the write is only scheduled.
+     * With deferred writes, the save is held back until the next checkpoint.
      *
      * @param tasks the TaskList to save
      * @throws LeoException if the file cannot be written due to permission or disk issues
      */
     public void save(TaskList tasks) throws LeoException {
+        if (isDeferringWrites) {
+            hasDeferredChanges = true;
+            return;
+        }
+        saveSnapshot(tasks);
+    }
+
+    /**
+     * Writes the tasks as a new snapshot if any change was held back since the last checkpoint.
+     * Does nothing unless writes are deferred.
+     *
+     * @param tasks the TaskList to save
+     * @throws LeoException if the file cannot be written due to permission or disk issues
+     */
+    public void checkpoint(TaskList tasks) throws LeoException {
+        if (!hasDeferredChanges) {
+            return;
+        }
+        hasDeferredChanges = false;
+        saveSnapshot(tasks);
+    }
+
+    /**
+     * Writes the tasks as a new snapshot, or schedules the write with asynchronous saving enabled.
+     *
+     * @param tasks the TaskList to save
+     * @throws LeoException if the file cannot be written due to permission or disk issues
+     */
+    private void saveSnapshot(TaskList tasks) throws LeoException {
+        journalRecordCount = 0;
+        keepIdsBelow(tasks.getNextId());
+        if (saveScheduler != null) {
+            saveScheduler.requestSnapshot(new ArrayList<>(tasks.getAll()));
+            return;
+        }
+        writeSnapshot(tasks.getAll());
+    }
+
+    /**
+     * Waits until every scheduled write has been performed,
+     * then forces any journal records not yet synced under the batched policy to the disk.
+     *
+     * @throws LeoException if a scheduled write or the sync failed
+     */
+    public void flush() throws LeoException {
+        if (saveScheduler != null) {
+            saveScheduler.flush();
+        }
+        if (unsyncedJournalRecords == 0) {
+            return;
+        }
+        try {
+            journal.sync();
+            unsyncedJournalRecords = 0;
+        } catch (IOException e) {
+            throw new LeoException("Cannot write journal file: " + journal.getPath()
+                    + ". Please check if the location is writable.");
+        }
+    }
+
+    /**
+     * Writes the given tasks to the storage file, in the configured snapshot format.
+     * Creates parent directories if they don't exist.
+     * The tasks are written to a temporary file first, which then replaces the storage file in one rename.
+     * The journal is cleared afterwards since the snapshot now contains every change; until then,
+     * the higher generation of the new snapshot keeps the journal from being replayed on top of it.
+     *
+     * @param taskList the tasks to write, in order
+     * @throws LeoException if the file cannot be written due to permission or disk issues
+     */
+    void writeSnapshot(List<Task> taskList) throws LeoException {
+        DurabilityPolicy policy = durabilityPolicy;
+        long start = System.nanoTime();
+        long nextGeneration = generation + 1;
         try {
-            Path parent = filePath.getParent();
-            if (parent != null) {
-                Files.createDirectories(parent);
+            createParentDirectories();
+            if (snapshotFormat == SnapshotFormat.BINARY) {
+                BinarySnapshot.write(tempPath, taskList, nextGeneration, nextTaskId);
+            } else {
+                List<String> lines = new ArrayList<>(taskList.size() + 1);
+                lines.add(GENERATION_CODE + DELIMITER + nextGeneration + DELIMITER + nextTaskId);
+                for (Task t : taskList) {
+                    lines.add(serializeTask(t));
+                }
+                Files.write(tempPath, lines, StandardCharsets.UTF_8);
+            }
+            boolean isSynced = policy != DurabilityPolicy.NEVER;
+            if (isSynced) {
+                syncFile(tempPath);
             }
-            List<String> lines = new ArrayList<>();
-            ArrayList<Task> taskList = tasks.getAll();
-            for (Task t : taskList) {
-                lines.add(serializeTask(t));
+            replaceWithTemp();
+            generation = nextGeneration;
+            if (isSynced) {
+                syncParentDirectory();
             }
-            Files.write(filePath, lines, StandardCharsets.UTF_8);
+            journal.clear();
+            unsyncedJournalRecords = 0;
+            writeStats.get(policy).recordSnapshot(System.nanoTime() - start);
         } catch (java.nio.file.AccessDeniedException e) {
             throw new LeoException("Access denied to save file: " + filePath 
                     + ". Please check file permissions.");
@@ -111,28 +547,231 @@ public class Storage {
         }
     }
 
+    /**
+     * Appends a single record to the journal file, tagged with the generation of the next snapshot.
+     *
+     * @param record the journal record to append
+     * @throws LeoException if the journal cannot be written
+     */
+    void appendToJournal(String record) throws LeoException {
+        DurabilityPolicy policy = durabilityPolicy;
+        long start = System.nanoTime();
+        try {
+            createParentDirectories();
+            boolean isSynced;
+            switch (policy) {
+            case ALWAYS:
+                isSynced = true;
+                break;
+
+            case BATCHED:
+                isSynced = unsyncedJournalRecords + 1 >= JOURNAL_SYNC_INTERVAL;
+                break;
+
+            default:
+                isSynced = false;
+                break;
+            }
+
+            journal.append((generation + 1) + DELIMITER + record, isSynced);
+            if (isSynced) {
+                unsyncedJournalRecords = 0;
+            } else if (policy == DurabilityPolicy.BATCHED) {
+                unsyncedJournalRecords++;
+            }
+            writeStats.get(policy).recordJournal(System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new LeoException("Cannot write journal file: " + journal.getPath()
+                    + ". Please check if the location is writable.");
+        }
+    }
+
+    /**
+     * Moves the temporary snapshot over the storage file, atomically where the file system allows it.
+     *
+     * @throws IOException if the file cannot be moved
+     */
+    private void replaceWithTemp() throws IOException {
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the contents of the given file to the disk.
+     *
+     * @param path the file to sync
+     * @throws IOException if the file cannot be synced
+     */
+    private static void syncFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the directory entry of the renamed snapshot to the disk.
+     * Some platforms cannot open directories for syncing; the rename is still atomic there.
+     */
+    private void syncParentDirectory() {
+        Path parent = filePath.toAbsolutePath().getParent();
+        if (parent == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(parent, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directory sync is best effort
+        }
+    }
+
+    /**
+     * Creates the directories containing the storage file if they don't exist.
+     *
+     * @throws IOException if a directory cannot be created
+     */
+    private void createParentDirectories() throws IOException {
+        Path parent = filePath.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    /**
+     * Records that a task was added to the end of the list.
+     * Appends to the journal in journal mode, otherwise saves the whole list.
+     *
+     * @param tasks the TaskList after the addition
+     * @param task the task that was added
+     * @throws LeoException if the change cannot be written
+     */
+    public void recordAdd(TaskList tasks, Task task) throws LeoException {
+        if (!isJournalEnabled) {
+            save(tasks);
+            return;
+        }
+        appendRecord(tasks, ADD_OP + DELIMITER + serializeTask(task));
+    }
+
+    /**
+     * Records that the task at the given index was marked as done.
+     * Appends to the journal in journal mode, otherwise saves the whole list.
+     *
+     * @param tasks the TaskList after the change
+     * @param index the zero-based index of the marked task
+     * @throws LeoException if the change cannot be written
+     */
+    public void recordMark(TaskList tasks, int index) throws LeoException {
+        if (!isJournalEnabled) {
+            save(tasks);
+            return;
+        }
+        appendRecord(tasks, MARK_OP + DELIMITER + index);
+    }
+
+    /**
+     * Records that the task at the given index was marked as not done.
+     * Appends to the journal in journal mode, otherwise saves the whole list.
+     *
+     * @param tasks the TaskList after the change
+     * @param index the zero-based index of the unmarked task
+     * @throws LeoException if the change cannot be written
+     */
+    public void recordUnmark(TaskList tasks, int index) throws LeoException {
+        if (!isJournalEnabled) {
+            save(tasks);
+            return;
+        }
+        appendRecord(tasks, UNMARK_OP + DELIMITER + index);
+    }
+
+    /**
+     * Records that the task at the given index was removed.
+     * Appends to the journal in journal mode, otherwise saves the whole list.
+     *
+     * @param tasks the TaskList after the removal
+     * @param index the zero-based index the removed task had
+     * @throws LeoException if the change cannot be written
+     */
+    public void recordDelete(TaskList tasks, int index) throws LeoException {
+        if (!isJournalEnabled) {
+            save(tasks);
+            return;
+        }
+        appendRecord(tasks, DELETE_OP + DELIMITER + index);
+    }
+
+    /**
+     * Records that a task was inserted at the given index, such as when a deletion is undone.
+     * Appends to the journal in journal mode, otherwise saves the whole list.
+     *
+     * @param tasks the TaskList after the insertion
+     * @param index the zero-based index the task was inserted at
+     * @param task the task that was inserted
+     * @throws LeoException if the change cannot be written
+     */
+    public void recordInsert(TaskList tasks, int index, Task task) throws LeoException {
+        if (!isJournalEnabled) {
+            save(tasks);
+            return;
+        }
+        appendRecord(tasks, INSERT_OP + DELIMITER + index + DELIMITER + serializeTask(task));
+    }
+
+    /**
+     * Appends a record to the journal, compacting into the snapshot once the threshold is reached.
+     *
+     * @param tasks the TaskList to write if compaction is needed
+     * @param record the journal record to append
+     * @throws LeoException if the journal or snapshot cannot be written
+     */
+    private void appendRecord(TaskList tasks, String record) throws LeoException {
+        if (isDeferringWrites) {
+            hasDeferredChanges = true;
+            return;
+        }
+        if (saveScheduler != null) {
+            saveScheduler.requestAppend(record);
+        } else {
+            appendToJournal(record);
+        }
+
+        journalRecordCount++;
+        if (journalRecordCount >= compactionThreshold) {
+            save(tasks);
+        }
+    }
+
     /**
      * Serializes a Task to its string representation for storage.
-     * Format: TYPE | DONE | DESCRIPTION [| TIME_FIELDS]
+     * Format: TYPE | DONE | DESCRIPTION [| TIME_FIELDS] [| #ID]
+     * The id is left out for tasks that were never added to a list.
      *
      * @param t the task to serialize
      * @return the serialized task string
      */
     private String serializeTask(Task t) {
         String doneMarker = t.isDone() ? DONE_MARKER : NOT_DONE_MARKER;
+        String serialized;
         switch (t.getType()) {
         case TODO:
-            return TODO_CODE + DELIMITER + doneMarker + DELIMITER + t.getDescription();
+            serialized = TODO_CODE + DELIMITER + doneMarker + DELIMITER + t.getDescription();
+            break;
 
         case DEADLINE:
-            return serializeDeadline((Deadline) t, doneMarker);
+            serialized = serializeDeadline((Deadline) t, doneMarker);
+            break;
 
         case EVENT:
-            return serializeEvent((Event) t, doneMarker);
+            serialized = serializeEvent((Event) t, doneMarker);
+            break;
 
         default:
             return "";
         }
+        return t.getId() > 0 ? serialized + DELIMITER + ID_PREFIX + t.getId() : serialized;
     }
 
     /**
@@ -168,85 +807,118 @@ public class Storage {
      * Handles Todo, Deadline, and Event task types.
      *
      * @param line the line to parse
-     * @return the parsed Task, or null if the line is invalid
+     * @return the parsed Task, or null if the line is blank or invalid
      * @throws LeoException if the line format is corrupted
      */
     private Task parseLine(String line) throws LeoException {
-        String[] parts = line.split("\\s*\\|\\s*");
+        scanner.scan(line);
+        return parseFields(scanner);
+    }
+
+    /**
+     * Builds a Task from the fields of a stored line.
+     * Keeps no state, so it may be called from several threads with their own fields at once.
+     *
+     * @param fields the fields of the line
+     * @return the parsed Task, or null if the line is blank or invalid
+     * @throws LeoException if the line format is corrupted
+     */
+    static Task parseFields(StoredFields fields) throws LeoException {
+        int fieldCount = fields.getFieldCount();
 
         // Guard clause: validate minimum parts
-        if (parts.length < 3) {
+        if (fieldCount < 3) {
             return null;
         }
 
-        String typeCode = parts[0];
-        boolean isDone = parts[1].equals(DONE_MARKER);
-        String desc = parts[2];
-
-        Task task = parseTaskByType(typeCode, parts, desc);
+        long storedId = fieldCount > 3 ? parseStoredId(fields.field(fieldCount - 1)) : 0;
+        int taskFieldCount = storedId > 0 ? fieldCount - 1 : fieldCount;
+        boolean isDone = fields.fieldEquals(1, DONE_MARKER);
+        Task task = parseTaskByType(fields, taskFieldCount);
 
         if (task != null && isDone) {
             task.markAsDone();
         }
+        if (task != null && storedId > 0) {
+            task.setStoredId(storedId);
+        }
         return task;
     }
 
     /**
-     * Parses a task based on its type code.
+     * Reads a task id field such as "#12".
      *
-     * @param typeCode the type code (T, D, or E)
-     * @param parts the split line parts
-     * @param desc the task description
+     * @param field the last field of a stored line
+     * @return the id, or 0 if the field is not a valid task id
+     */
+    private static long parseStoredId(String field) {
+        int length = field.length();
+        if (length < 2 || length > MAX_ID_DIGITS + 1 || !field.startsWith(ID_PREFIX)) {
+            return 0;
+        }
+        long id = 0;
+        for (int i = 1; i < length; i++) {
+            char c = field.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id <= Integer.MAX_VALUE ? id : 0;
+    }
+
+    /**
+     * Parses the fields of a stored line into a task based on its type code.
+     *
+     * @param fields the fields of the line
+     * @param taskFieldCount the number of fields describing the task, not counting the id
      * @return the parsed task, or null if invalid
      * @throws LeoException if parsing fails
      */
-    private Task parseTaskByType(String typeCode, String[] parts, String desc) throws LeoException {
-        switch (typeCode) {
-        case TODO_CODE:
-            return new Todo(desc);
-
-        case DEADLINE_CODE:
-            return parseDeadlineTask(parts, desc);
-
-        case EVENT_CODE:
-            return parseEventTask(parts, desc);
-
-        default:
-            return null;
+    private static Task parseTaskByType(StoredFields fields, int taskFieldCount) throws LeoException {
+        if (fields.fieldEquals(0, TODO_CODE)) {
+            return new Todo(fields.field(2));
+        }
+        if (fields.fieldEquals(0, DEADLINE_CODE)) {
+            return parseDeadlineTask(fields, taskFieldCount);
+        }
+        if (fields.fieldEquals(0, EVENT_CODE)) {
+            return parseEventTask(fields, taskFieldCount);
         }
+        return null;
     }
 
     /**
-     * Parses a Deadline task from stored parts.
+     * Parses a Deadline task from the fields of a stored line.
      *
-     * @param parts the split line parts
-     * @param desc the task description
+     * @param fields the fields of the line
+     * @param taskFieldCount the number of fields describing the task, not counting the id
      * @return the parsed Deadline task, or null if invalid
      * @throws LeoException if parsing fails
      */
-    private Task parseDeadlineTask(String[] parts, String desc) throws LeoException {
-        boolean hasCorrectParts = parts.length == 4;
+    private static Task parseDeadlineTask(StoredFields fields, int taskFieldCount) throws LeoException {
+        boolean hasCorrectParts = taskFieldCount == 4;
         if (!hasCorrectParts) {
             return null;
         }
-        return new Deadline(desc, DateTimeUtil.parseStored(parts[3]));
+        return new Deadline(fields.field(2), DateTimeUtil.parseStored(fields.field(3)));
     }
 
     /**
-     * Parses an Event task from stored parts.
+     * Parses an Event task from the fields of a stored line.
      *
-     * @param parts the split line parts
-     * @param desc the task description
+     * @param fields the fields of the line
+     * @param taskFieldCount the number of fields describing the task, not counting the id
      * @return the parsed Event task, or null if invalid
      * @throws LeoException if parsing fails
      */
-    private Task parseEventTask(String[] parts, String desc) throws LeoException {
-        boolean hasCorrectParts = parts.length == 5;
+    private static Task parseEventTask(StoredFields fields, int taskFieldCount) throws LeoException {
+        boolean hasCorrectParts = taskFieldCount == 5;
         if (!hasCorrectParts) {
             return null;
         }
-        return new Event(desc,
-                DateTimeUtil.parseStored(parts[3]),
-                DateTimeUtil.parseStored(parts[4]));
+        return new Event(fields.field(2),
+                DateTimeUtil.parseStored(fields.field(3)),
+                DateTimeUtil.parseStored(fields.field(4)));
     }
 }
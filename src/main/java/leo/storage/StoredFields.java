@@ -0,0 +1,31 @@
+package leo.storage;
+
+/**
+ * StoredFields gives access to the pipe-delimited fields of one stored line.
+ * It lets Storage build tasks the same way whatever field layout the line was scanned from.
+ */
+public interface StoredFields {
+    /**
+     * Returns the number of fields in the current line.
+     *
+     * @return the field count
+     */
+    int getFieldCount();
+
+    /**
+     * Returns the field at the given position.
+     *
+     * @param index the zero-based field position
+     * @return the field text, without surrounding whitespace
+     */
+    String field(int index);
+
+    /**
+     * Returns true if the field at the given position is exactly the given ASCII text.
+     *
+     * @param index the zero-based field position
+     * @param expected the text to compare against
+     * @return true if the field equals the expected text
+     */
+    boolean fieldEquals(int index, String expected);
+}
@@ -0,0 +1,222 @@
+package leo.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+import leo.exception.LeoException;
+import leo.task.Task;
+
+/**
+ * TaskImporter reads tasks from an external file, written either in the stored line format
+ * or, for files ending in ".csv", as comma-separated values with the same fields.
+ * The file is streamed in chunks of lines. Each chunk is parsed on a worker thread with its own
+ * {@link LineFields}, while the reader moves on to the next chunk, and parsed chunks are collected
+ * in file order. Only a few chunks per processor are in flight at once, so the lines of a large file
+ * are never all held in memory.
+ *
+ * <p>Lines that do not describe a valid task, such as a CSV header or a task with an empty description,
+ * are skipped and counted.
+ * The generation header of a save file is skipped without being counted.
+ * Blank lines are skipped without being counted as invalid.</p>
+ */
+public class TaskImporter {
+    /** The number of lines parsed together as one chunk by default. */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    private static final String CSV_EXTENSION = ".csv";
+    private static final int CHUNKS_IN_FLIGHT_PER_PROCESSOR = 2;
+
+    private final Path source;
+    private final int chunkSize;
+    private final boolean isCsv;
+    private final int maxChunksInFlight;
+    private int lineCount;
+    private int invalidLineCount;
+
+    /**
+     * Constructs a TaskImporter for the given file, using the default chunk size.
+     *
+     * @param source the file to import from
+     */
+    public TaskImporter(Path source) {
+        this(source, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a TaskImporter for the given file.
+     *
+     * @param source the file to import from
+     * @param chunkSize the number of lines parsed together on one worker thread
+     */
+    public TaskImporter(Path source, int chunkSize) {
+        assert chunkSize > 0 : "Chunk size must be positive";
+        this.source = source;
+        this.chunkSize = chunkSize;
+        Path fileName = source.getFileName();
+        this.isCsv = fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION);
+        this.maxChunksInFlight = CHUNKS_IN_FLIGHT_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Reads and parses every task in the file, in file order.
+     * Progress is reported after each full chunk, so a file shorter than one chunk reports nothing.
+     *
+     * @param progress receives the number of lines read so far, on the calling thread
+     * @return the parsed tasks, which do not belong to any list yet
+     * @throws LeoException if the file does not exist or cannot be read
+     */
+    public ArrayList<Task> read(IntConsumer progress) throws LeoException {
+        lineCount = 0;
+        invalidLineCount = 0;
+        ArrayList<Task> tasks = new ArrayList<>();
+        ArrayDeque<CompletableFuture<ParsedChunk>> pending = new ArrayDeque<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            ArrayList<String> lines = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() < chunkSize) {
+                    continue;
+                }
+                pending.addLast(submit(lines));
+                lines = new ArrayList<>(chunkSize);
+                if (pending.size() >= maxChunksInFlight) {
+                    collect(pending.pollFirst(), tasks, progress);
+                }
+            }
+            if (!lines.isEmpty()) {
+                pending.addLast(submit(lines));
+            }
+        } catch (NoSuchFileException e) {
+            throw new LeoException("Cannot find file to import: " + source + ".");
+        } catch (java.nio.file.AccessDeniedException e) {
+            throw new LeoException("Access denied to import file: " + source
+                    + ". Please check file permissions.");
+        } catch (IOException e) {
+            throw new LeoException("Cannot read import file: " + source
+                    + ". The file may be in use or is not a text file.");
+        }
+
+        while (!pending.isEmpty()) {
+            collect(pending.pollFirst(), tasks, progress);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the number of lines read by the last import, blank lines included.
+     *
+     * @return the line count
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the number of non-blank lines skipped by the last import because they were not valid tasks.
+     *
+     * @return the invalid line count
+     */
+    public int getInvalidLineCount() {
+        return invalidLineCount;
+    }
+
+    /**
+     * Starts parsing a chunk of lines on a worker thread.
+     *
+     * @param lines the lines of the chunk, which must not be modified afterwards
+     * @return the pending result of parsing the chunk
+     */
+    private CompletableFuture<ParsedChunk> submit(List<String> lines) {
+        return CompletableFuture.supplyAsync(() -> parse(lines));
+    }
+
+    /**
+     * Waits for a chunk to be parsed and adds its tasks and counts to the import.
+     *
+     * @param chunk the pending result of parsing the chunk
+     * @param tasks the list of parsed tasks to add to
+     * @param progress receives the number of lines read so far after a full chunk
+     */
+    private void collect(CompletableFuture<ParsedChunk> chunk, ArrayList<Task> tasks, IntConsumer progress) {
+        ParsedChunk parsed = chunk.join();
+        tasks.addAll(parsed.tasks);
+        invalidLineCount += parsed.invalidLineCount;
+        lineCount += parsed.lineCount;
+        if (parsed.lineCount == chunkSize) {
+            progress.accept(lineCount);
+        }
+    }
+
+    /**
+     * Parses a chunk of lines into tasks.
+     * Runs on a worker thread, so it only uses state of its own.
+     *
+     * @param lines the lines of the chunk
+     * @return the tasks parsed from the chunk and the number of invalid lines in it
+     */
+    private ParsedChunk parse(List<String> lines) {
+        LineFields fields = isCsv ? new CsvFields() : new FieldScanner();
+        ArrayList<Task> tasks = new ArrayList<>(lines.size());
+        int invalid = 0;
+        for (String line : lines) {
+            if (fields.scan(line) == 0) {
+                continue;
+            }
+            if (hasEmptyDescription(fields)) {
+                invalid++;
+                continue;
+            }
+            Task task;
+            try {
+                task = Storage.parseFields(fields);
+            } catch (LeoException e) {
+                task = null;
+            }
+            if (task == null && Storage.isGenerationHeader(fields)) {
+                continue;
+            }
+            if (task == null) {
+                invalid++;
+            } else {
+                tasks.add(task);
+            }
+        }
+        return new ParsedChunk(tasks, invalid, lines.size());
+    }
+
+    /**
+     * Returns true if the given fields name a task type and status but leave the description empty.
+     * Such lines are rejected here rather than when loading the save file, which keeps them as they are.
+     *
+     * @param fields the fields of a non-blank line
+     * @return true if the description field is present and empty
+     */
+    private static boolean hasEmptyDescription(LineFields fields) {
+        return fields.getFieldCount() >= 3 && fields.fieldEquals(2, "");
+    }
+
+    /**
+     * ParsedChunk is the result of parsing one chunk of lines.
+     */
+    private static final class ParsedChunk {
+        private final ArrayList<Task> tasks;
+        private final int invalidLineCount;
+        private final int lineCount;
+
+        private ParsedChunk(ArrayList<Task> tasks, int invalidLineCount, int lineCount) {
+            this.tasks = tasks;
+            this.invalidLineCount = invalidLineCount;
+            this.lineCount = lineCount;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package leo.storage;
+
+/**
+ * WriteStats collects latency numbers for the writes Storage performs.
+ * Snapshot writes and journal appends are counted separately since their costs differ widely.
+ * Writes may happen on a background thread, so every method is synchronized.
+ */
+public class WriteStats {
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private long snapshotCount;
+    private long snapshotTotalNanos;
+    private long snapshotMaxNanos;
+    private long journalCount;
+    private long journalTotalNanos;
+    private long journalMaxNanos;
+
+    /**
+     * Records the duration of a snapshot write.
+     *
+     * @param nanos the time the write took, in nanoseconds
+     */
+    public synchronized void recordSnapshot(long nanos) {
+        snapshotCount++;
+        snapshotTotalNanos += nanos;
+        snapshotMaxNanos = Math.max(snapshotMaxNanos, nanos);
+    }
+
+    /**
+     * Records the duration of a journal append.
+     *
+     * @param nanos the time the append took, in nanoseconds
+     */
+    public synchronized void recordJournal(long nanos) {
+        journalCount++;
+        journalTotalNanos += nanos;
+        journalMaxNanos = Math.max(journalMaxNanos, nanos);
+    }
+
+    /**
+     * Returns the number of snapshot writes recorded.
+     *
+     * @return the snapshot write count
+     */
+    public synchronized long getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    /**
+     * Returns the average snapshot write time in microseconds, or 0 if none were recorded.
+     *
+     * @return the average snapshot write latency
+     */
+    public synchronized double getSnapshotAverageMicros() {
+        return average(snapshotTotalNanos, snapshotCount);
+    }
+
+    /**
+     * Returns the longest snapshot write time in microseconds.
+     *
+     * @return the maximum snapshot write latency
+     */
+    public synchronized double getSnapshotMaxMicros() {
+        return snapshotMaxNanos / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns the number of journal appends recorded.
+     *
+     * @return the journal append count
+     */
+    public synchronized long getJournalCount() {
+        return journalCount;
+    }
+
+    /**
+     * Returns the average journal append time in microseconds, or 0 if none were recorded.
+     *
+     * @return the average journal append latency
+     */
+    public synchronized double getJournalAverageMicros() {
+        return average(journalTotalNanos, journalCount);
+    }
+
+    /**
+     * Returns the longest journal append time in microseconds.
+     *
+     * @return the maximum journal append latency
+     */
+    public synchronized double getJournalMaxMicros() {
+        return journalMaxNanos / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns a one-line summary of the recorded latencies.
+     *
+     * @return the summary
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("snapshots: %d, avg %.1fus, max %.1fus; journal: %d, avg %.1fus, max %.1fus",
+                snapshotCount, getSnapshotAverageMicros(), getSnapshotMaxMicros(),
+                journalCount, getJournalAverageMicros(), getJournalMaxMicros());
+    }
+
+    /**
+     * Converts a total duration to an average in microseconds.
+     *
+     * @param totalNanos the total duration in nanoseconds
+     * @param count the number of writes
+     * @return the average in microseconds, or 0 if count is 0
+     */
+    private static double average(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / NANOS_PER_MICRO / count;
+    }
+}
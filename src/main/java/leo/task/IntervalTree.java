@@ -0,0 +1,277 @@
+package leo.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+/**
+ * IntervalTree is a balanced search tree of events ordered by start time, augmented for overlap queries.
+ * Every node also stores the latest end time in its subtree, so a query can skip any subtree whose events
+ * all end before the queried range starts, and stops walking right once events start after it ends.
+ * Finding the events overlapping a range therefore only visits the paths leading to matching events.
+ *
+ * <p>The tree is kept balanced as an AVL tree, so its height stays logarithmic in the number of events.
+ * Events starting at the same time are ordered by id.</p>
+ */
+public class IntervalTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Adds an event to the tree.
+     * The event must already have its id, and must not be in the tree.
+     *
+     * @param event the event to add
+     */
+    public void add(Event event) {
+        root = insert(root, event);
+        size++;
+    }
+
+    /**
+     * Removes an event from the tree, if it is in the tree.
+     *
+     * @param event the event to remove
+     */
+    public void remove(Event event) {
+        root = delete(root, event.getFrom(), event.getId());
+    }
+
+    /**
+     * Removes every event from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of events in the tree.
+     *
+     * @return the event count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the events whose time range overlaps the given range, ends included, in start-time order.
+     *
+     * @param from the start of the range
+     * @param to the end of the range
+     * @return the overlapping events
+     */
+    public ArrayList<Event> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Event> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    /**
+     * Adds the events in the given subtree that overlap the range to the result, in start-time order.
+     *
+     * @param node the root of the subtree
+     * @param from the start of the range
+     * @param to the end of the range
+     * @param result the list to add matching events to
+     */
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, ArrayList<Event> result) {
+        if (node == null || node.maxTo.isBefore(from)) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.from.isAfter(to)) {
+            return;
+        }
+        if (!node.to.isBefore(from)) {
+            result.add(node.event);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    /**
+     * Inserts an event into the given subtree.
+     *
+     * @param node the root of the subtree
+     * @param event the event to insert
+     * @return the new root of the subtree
+     */
+    private static Node insert(Node node, Event event) {
+        if (node == null) {
+            return new Node(event);
+        }
+        if (compare(event.getFrom(), event.getId(), node) < 0) {
+            node.left = insert(node.left, event);
+        } else {
+            node.right = insert(node.right, event);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Deletes the event with the given start time and id from the given subtree.
+     *
+     * @param node the root of the subtree
+     * @param from the start time of the event
+     * @param id the id of the event
+     * @return the new root of the subtree
+     */
+    private Node delete(Node node, LocalDateTime from, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(from, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, from, id);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, from, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Deletes the node with the earliest start time from the given subtree.
+     *
+     * @param node the root of the subtree, which must not be null
+     * @return the new root of the subtree
+     */
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * Compares an event, given by its start time and id, with the event at a node.
+     *
+     * @param from the start time of the event
+     * @param id the id of the event
+     * @param node the node to compare with
+     * @return a negative number, zero, or a positive number as the event sorts before, with, or after the node
+     */
+    private static int compare(LocalDateTime from, long id, Node node) {
+        int cmp = from.compareTo(node.from);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    /**
+     * Restores the AVL balance of a node whose subtrees differ in height by at most two,
+     * and refreshes the stored height and latest end time.
+     *
+     * @param node the node to rebalance
+     * @return the new root of the subtree
+     */
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates the subtree right, lifting the left child.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates the subtree left, lifting the right child.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Recomputes the height and latest end time of a node from its children.
+     *
+     * @param node the node to update
+     */
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDateTime maxTo = node.to;
+        if (node.left != null && node.left.maxTo.isAfter(maxTo)) {
+            maxTo = node.left.maxTo;
+        }
+        if (node.right != null && node.right.maxTo.isAfter(maxTo)) {
+            maxTo = node.right.maxTo;
+        }
+        node.maxTo = maxTo;
+    }
+
+    /**
+     * Returns the height of a subtree, which is zero for an empty one.
+     *
+     * @param node the root of the subtree
+     * @return the height
+     */
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Node holds one event, with its times copied out for comparisons, and the summary of its subtree.
+     */
+    private static final class Node {
+        private final Event event;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final long id;
+        private LocalDateTime maxTo;
+        private int height;
+        private Node left;
+        private Node right;
+
+        private Node(Event event) {
+            this.event = event;
+            this.from = event.getFrom();
+            this.to = event.getTo();
+            this.id = event.getId();
+            this.maxTo = to;
+            this.height = 1;
+        }
+    }
+}
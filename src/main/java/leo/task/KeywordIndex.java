@@ -0,0 +1,149 @@
+package leo.task;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * KeywordIndex is an incrementally maintained trigram index over task descriptions.
+ * It maps every three-character substring of a lowercased description to the tasks containing it,
+ * so a find only has to look at tasks sharing the keyword's rarest trigram instead of every task.
+ *
+ * <p>Postings are append-only arrays. Removing a task or changing its description leaves stale
+ * entries behind, which callers filter out when checking candidates; once stale entries outnumber
+ * live tasks the owner rebuilds the index from scratch.</p>
+ */
+public class KeywordIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+
+    private final HashMap<Long, Posting> postings;
+    private int staleCount;
+
+    /**
+     * Constructs an empty KeywordIndex.
+     */
+    public KeywordIndex() {
+        this.postings = new HashMap<>();
+        this.staleCount = 0;
+    }
+
+    /**
+     * Indexes the given task under every trigram of its description.
+     *
+     * @param task the task to index
+     */
+    public void add(Task task) {
+        String s = task.getDescription().toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= s.length(); i++) {
+            postings.computeIfAbsent(gramKey(s, i), k -> new Posting()).add(task);
+        }
+    }
+
+    /**
+     * Records that the given task was removed.
+     * Its entries stay in the postings until the next rebuild.
+     *
+     * @param task the task that was removed
+     */
+    public void remove(Task task) {
+        staleCount++;
+    }
+
+    /**
+     * Re-indexes a task whose description has changed.
+     * Entries for the old description stay in the postings until the next rebuild.
+     *
+     * @param task the task whose description changed
+     */
+    public void update(Task task) {
+        staleCount++;
+        add(task);
+    }
+
+    /**
+     * Returns true once stale entries make up more than half of the index.
+     *
+     * @param liveCount the number of tasks currently in the owning list
+     * @return true if the index should be rebuilt
+     */
+    public boolean needsRebuild(int liveCount) {
+        return staleCount > liveCount;
+    }
+
+    /**
+     * Discards every posting and indexes the given tasks again.
+     *
+     * @param tasks the tasks currently in the owning list
+     */
+    public void rebuild(List<Task> tasks) {
+        postings.clear();
+        staleCount = 0;
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the tasks that may contain the given keyword.
+     * Every task whose lowercased description contains the keyword is in the result,
+     * but the result may also contain tasks that were removed, tasks that only share
+     * the keyword's trigrams, and the same task more than once, so callers still need
+     * to check each candidate.
+     *
+     * @param lowerKeyword the lowercased keyword to look up
+     * @return the candidate tasks, or null if the keyword is too short to use the index
+     */
+    public List<Task> getCandidates(String lowerKeyword) {
+        if (lowerKeyword.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        Posting smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= lowerKeyword.length(); i++) {
+            Posting posting = postings.get(gramKey(lowerKeyword, i));
+            if (posting == null) {
+                return List.of();
+            }
+            if (smallest == null || posting.size < smallest.size) {
+                smallest = posting;
+            }
+        }
+        return Arrays.asList(smallest.tasks).subList(0, smallest.size);
+    }
+
+    /**
+     * Packs the trigram starting at the given position into a single key.
+     *
+     * @param s the string containing the trigram
+     * @param start the index of the trigram's first character
+     * @return the key of the trigram
+     */
+    private static long gramKey(String s, int start) {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+
+    /**
+     * Posting is a growable array of the tasks containing one trigram.
+     */
+    private static final class Posting {
+        private Task[] tasks = new Task[INITIAL_POSTING_CAPACITY];
+        private int size;
+
+        /**
+         * Appends a task, skipping it if the same task was just appended for an earlier
+         * occurrence of the trigram in the same description.
+         *
+         * @param task the task to append
+         */
+        void add(Task task) {
+            if (size > 0 && tasks[size - 1] == task) {
+                return;
+            }
+            if (size == tasks.length) {
+                tasks = Arrays.copyOf(tasks, size * 2);
+            }
+            tasks[size++] = task;
+        }
+    }
+}
@@ -9,6 +9,8 @@ public class Task {
     protected String description;
     protected boolean isDone;
     protected TaskType type;
+    private TaskList owner;
+    private long id;
 
     /**
      * Constructs a new Task with the specified description and type.
@@ -29,14 +31,29 @@ public class Task {
      * Marks this task as done.
      */
     public void markAsDone() {
-        isDone = true;
+        setDone(true);
     }
 
     /**
      * Marks this task as not done.
      */
     public void markAsNotDone() {
-        isDone = false;
+        setDone(false);
+    }
+
+    /**
+     * Sets the done status of this task, telling the owning list if it changed.
+     *
+     * @param isDone the new done status
+     */
+    private void setDone(boolean isDone) {
+        if (this.isDone == isDone) {
+            return;
+        }
+        this.isDone = isDone;
+        if (owner != null) {
+            owner.onStatusChanged(this);
+        }
     }
 
     /**
@@ -83,7 +100,62 @@ public class Task {
     public void setDescription(String description) {
         assert description != null : "Task description cannot be null";
         assert !description.trim().isEmpty() : "Task description cannot be empty";
+        String oldDescription = this.description;
         this.description = description;
+        if (owner != null) {
+            owner.onDescriptionChanged(this, oldDescription);
+        }
+    }
+
+    /**
+     * Returns the TaskList that currently holds this task.
+     *
+     * @return the TaskList holding this task, or null if it is not in a list
+     */
+    TaskList getOwner() {
+        return owner;
+    }
+
+    /**
+     * Sets the TaskList that currently holds this task, so it can be told about changes.
+     *
+     * @param owner the TaskList holding this task, or null if it was removed
+     */
+    void setOwner(TaskList owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the id given to this task when it was added to its TaskList.
+     * Ids start at 1, are never reused within a list, and stay with the task while other tasks
+     * are added or removed. Tasks added later have larger ids. Tasks that were never added have id 0.
+     * Ids are saved with the tasks, so a task keeps its id from one session to the next.
+     *
+     * @return the id of this task
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gives this task the id it was saved with, so that a TaskList built from loaded tasks keeps it.
+     * Only tasks that are not in a list can be given a stored id.
+     *
+     * @param id the saved id, which must be positive
+     */
+    public void setStoredId(long id) {
+        assert owner == null : "Cannot change the id of a task in a list";
+        assert id > 0 : "Stored ids must be positive: " + id;
+        this.id = id;
+    }
+
+    /**
+     * Sets the id of this task.
+     *
+     * @param id the id assigned by the owning TaskList
+     */
+    void setId(long id) {
+        this.id = id;
     }
 
     /**
@@ -1,31 +1,126 @@
 package leo.task;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import leo.exception.LeoException;
 
 /**
  * TaskList manages a collection of Task objects.
  * It provides methods for adding, removing, accessing, and manipulating tasks.
- * The TaskList uses an ArrayList internally for storage.
+ * The TaskList uses an ArrayList internally for storage, alongside a hash index
+ * of duplicate keys so that duplicate detection does not need to scan the list,
+ * a {@link KeywordIndex} so that finding tasks does not either, and a {@link TimeIndex}
+ * so that finding the deadlines and events in a period does not either.
+ * Both of these indexes are only built on their first query, so loading a large list stays cheap.
+ *
+ * <p>Every task is given a stable id when it enters the list, and a map from id to task is kept
+ * alongside the list, so a task is found from its id in constant time. Tasks are only ever appended,
+ * or restored to the position their id gives them, so the list stays sorted by id and the position
+ * of a task, which task numbers and the journal refer to, is found from its id by binary search.
+ * Removing a single task still moves the tasks after it down by one; {@link #removeAll(BitSet)}
+ * removes many tasks in one pass.</p>
+ *
+ * <p>Two bitsets indexed by id record which tasks are done and which are pending, and the number of
+ * done tasks is kept as a count. Tasks tell their list when their status changes, so listing the tasks
+ * of one status only visits those tasks, and counting them takes constant time.</p>
  */
 public class TaskList {
     private ArrayList<Task> tasks;
+    private HashMap<DuplicateKey, Integer> duplicateIndex;
+    private HashMap<Long, Task> idIndex;
+    private KeywordIndex keywordIndex;
+    private TimeIndex timeIndex;
+    private BitSet doneIds;
+    private BitSet pendingIds;
+    private int doneCount;
+    private long nextId;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
         this.tasks = new ArrayList<>();
+        this.duplicateIndex = new HashMap<>();
+        this.idIndex = new HashMap<>();
+        this.doneIds = new BitSet();
+        this.pendingIds = new BitSet();
+        this.nextId = 1;
     }
 
     /**
      * Constructs a TaskList with the specified list of tasks.
+     * The tasks are indexed as-is; duplicates already in the list are kept.
+     * Tasks keep the ids they were loaded with if those ids are positive and increase along the list;
+     * otherwise every task is given a new id in list order.
      *
      * @param tasks the initial list of tasks
      */
     public TaskList(ArrayList<Task> tasks) {
+        this(tasks, 1);
+    }
+
+    /**
+     * Constructs a TaskList with the specified list of tasks, giving out ids from at least the given one.
+     * Passing the id a saved list would have given out next keeps ids of tasks deleted before the save
+     * from being reused.
+     *
+     * @param tasks the initial list of tasks
+     * @param firstFreeId the lowest id that may be given to a new task
+     */
+    public TaskList(ArrayList<Task> tasks, long firstFreeId) {
         this.tasks = tasks;
+        this.duplicateIndex = new HashMap<>();
+        this.idIndex = new HashMap<>();
+        this.doneIds = new BitSet(tasks.size() + 1);
+        this.pendingIds = new BitSet(tasks.size() + 1);
+        assert firstFreeId > 0 && firstFreeId <= Integer.MAX_VALUE : "First free id out of range: " + firstFreeId;
+        this.nextId = 1;
+        boolean isKeepingIds = hasIncreasingIds(tasks);
+        for (Task task : tasks) {
+            if (isKeepingIds) {
+                nextId = task.getId() + 1;
+                register(task);
+            } else {
+                track(task);
+            }
+        }
+        nextId = Math.max(nextId, firstFreeId);
+    }
+
+    /**
+     * Returns the id the next task added to this list will get.
+     * Saving it with the tasks lets a reloaded list carry on from the same id.
+     *
+     * @return the next id
+     */
+    public long getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Returns true if every task has a positive id that fits the status bitsets,
+     * and the ids strictly increase along the list.
+     *
+     * @param tasks the tasks to check
+     * @return true if the tasks can keep their ids
+     */
+    private static boolean hasIncreasingIds(List<Task> tasks) {
+        long previous = 0;
+        for (Task task : tasks) {
+            long id = task.getId();
+            if (id <= previous || id > Integer.MAX_VALUE) {
+                return false;
+            }
+            previous = id;
+        }
+        return true;
     }
 
     /**
@@ -41,60 +136,203 @@ public class TaskList {
             throw new LeoException("A similar task already exists in the list.");
         }
         tasks.add(task);
+        track(task);
+    }
+
+    /**
+     * Appends the given tasks in one batch, skipping any that duplicate a task already in the list
+     * or one earlier in the batch.
+     * Each task is checked against the hash index of duplicate keys, so the batch is added in time
+     * proportional to its own size rather than that of the list.
+     *
+     * @param newTasks the tasks to add, which must not belong to any list
+     * @return the tasks that were added, in the order given
+     */
+    public ArrayList<Task> addAllUnique(List<Task> newTasks) {
+        ArrayList<Task> added = new ArrayList<>(newTasks.size());
+        tasks.ensureCapacity(tasks.size() + newTasks.size());
+        for (Task task : newTasks) {
+            assert task != null && task.getOwner() == null : "Task must not be null or in a list";
+            if (containsDuplicate(task)) {
+                continue;
+            }
+            tasks.add(task);
+            track(task);
+            added.add(task);
+        }
+        return added;
+    }
+
+    /**
+     * Counts the given tasks that duplicate a task already in the list.
+     * Tasks that only duplicate each other are not counted.
+     *
+     * @param candidates the tasks to check, which must not belong to any list
+     * @return the number of tasks with a duplicate in the list
+     */
+    public int countDuplicates(List<Task> candidates) {
+        int count = 0;
+        for (Task task : candidates) {
+            if (containsDuplicate(task)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
      * Checks if the task list contains a duplicate of the given task.
-     * Two tasks are considered duplicates if they have the same type, description,
-     * and time fields (if applicable).
+     * Two tasks are considered duplicates if they have the same type, description
+     * (case-insensitive), and time fields (if applicable).
      *
      * @param newTask the task to check for duplicates
      * @return true if a duplicate exists, false otherwise
      */
     private boolean containsDuplicate(Task newTask) {
-        for (Task existing : tasks) {
-            if (isDuplicate(existing, newTask)) {
-                return true;
-            }
+        return duplicateIndex.containsKey(DuplicateKey.of(newTask, newTask.getDescription()));
+    }
+
+    /**
+     * Adds the task to the indexes and registers this list as its owner.
+     * The task is given the next id, which orders tasks the same way as the list.
+     *
+     * @param task the task that was added
+     */
+    private void track(Task task) {
+        task.setId(nextId++);
+        register(task);
+    }
+
+    /**
+     * Adds a task that already has its id to the indexes and registers this list as its owner.
+     *
+     * @param task the task that was added
+     */
+    private void register(Task task) {
+        task.setOwner(this);
+        idIndex.put(task.getId(), task);
+        duplicateIndex.merge(DuplicateKey.of(task, task.getDescription()), 1, Integer::sum);
+        indexStatus(task);
+        if (keywordIndex != null) {
+            keywordIndex.add(task);
+        }
+        if (timeIndex != null) {
+            timeIndex.add(task);
         }
-        return false;
     }
 
     /**
-     * Determines if two tasks are duplicates of each other.
+     * Removes the task from the indexes and unregisters this list as its owner.
      *
-     * @param existing the existing task
-     * @param newTask the new task to compare
-     * @return true if the tasks are duplicates, false otherwise
+     * @param task the task that was removed
      */
-    private boolean isDuplicate(Task existing, Task newTask) {
-        // Different types cannot be duplicates
-        if (existing.getType() != newTask.getType()) {
-            return false;
+    private void untrack(Task task) {
+        unregister(task);
+        if (keywordIndex != null) {
+            rebuildKeywordIndexIfStale();
         }
+    }
 
-        // Compare descriptions (case-insensitive)
-        if (!existing.getDescription().equalsIgnoreCase(newTask.getDescription())) {
-            return false;
+    /**
+     * Removes the task from the indexes and unregisters this list as its owner,
+     * leaving any rebuild of the keyword index to the caller.
+     *
+     * @param task the task that was removed
+     */
+    private void unregister(Task task) {
+        task.setOwner(null);
+        idIndex.remove(task.getId());
+        unindex(DuplicateKey.of(task, task.getDescription()));
+        unindexStatus(task);
+        if (keywordIndex != null) {
+            keywordIndex.remove(task);
         }
+        if (timeIndex != null) {
+            timeIndex.remove(task);
+        }
+    }
+
+    /**
+     * Decrements the count for the given key, dropping it once no task uses it.
+     *
+     * @param key the duplicate key to remove
+     */
+    private void unindex(DuplicateKey key) {
+        duplicateIndex.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
 
-        // For Deadline tasks, compare deadline times
-        if (existing instanceof Deadline && newTask instanceof Deadline) {
-            Deadline existingDeadline = (Deadline) existing;
-            Deadline newDeadline = (Deadline) newTask;
-            return existingDeadline.getBy().equals(newDeadline.getBy());
+    /**
+     * Updates the indexes after a task in this list changed its description.
+     *
+     * @param task the task whose description changed
+     * @param oldDescription the description before the change
+     */
+    void onDescriptionChanged(Task task, String oldDescription) {
+        unindex(DuplicateKey.of(task, oldDescription));
+        duplicateIndex.merge(DuplicateKey.of(task, task.getDescription()), 1, Integer::sum);
+        if (keywordIndex != null) {
+            keywordIndex.update(task);
+            rebuildKeywordIndexIfStale();
         }
+    }
+
+    /**
+     * Updates the status bitsets after a task in this list was marked as done or not done.
+     *
+     * @param task the task whose status changed
+     */
+    void onStatusChanged(Task task) {
+        unindexStatus(task);
+        indexStatus(task);
+    }
 
-        // For Event tasks, compare start and end times
-        if (existing instanceof Event && newTask instanceof Event) {
-            Event existingEvent = (Event) existing;
-            Event newEvent = (Event) newTask;
-            return existingEvent.getFrom().equals(newEvent.getFrom())
-                    && existingEvent.getTo().equals(newEvent.getTo());
+    /**
+     * Records the task's current status in the status bitsets.
+     *
+     * @param task the task to record
+     */
+    private void indexStatus(Task task) {
+        int bit = toBit(task.getId());
+        if (task.isDone()) {
+            doneIds.set(bit);
+            doneCount++;
+        } else {
+            pendingIds.set(bit);
         }
+    }
 
-        // For Todo tasks, description match is sufficient (already checked above)
-        return true;
+    /**
+     * Clears the task from the status bitsets.
+     *
+     * @param task the task to clear
+     */
+    private void unindexStatus(Task task) {
+        int bit = toBit(task.getId());
+        if (doneIds.get(bit)) {
+            doneIds.clear(bit);
+            doneCount--;
+        }
+        pendingIds.clear(bit);
+    }
+
+    /**
+     * Converts a task id to its position in the status bitsets.
+     *
+     * @param id the task id
+     * @return the bit position for the id
+     */
+    private static int toBit(long id) {
+        assert id > 0 && id <= Integer.MAX_VALUE : "Task id out of bitset range: " + id;
+        return (int) id;
+    }
+
+    /**
+     * Rebuilds the keyword index once it holds more stale entries than live tasks.
+     */
+    private void rebuildKeywordIndexIfStale() {
+        if (keywordIndex.needsRebuild(tasks.size())) {
+            keywordIndex.rebuild(tasks);
+        }
     }
 
     /**
@@ -109,6 +347,68 @@ public class TaskList {
         return tasks.get(index);
     }
 
+    /**
+     * Returns the task with the specified id.
+     *
+     * @param id the id of the task
+     * @return the task with that id, or null if no task in the list has it
+     */
+    public Task getById(long id) {
+        return idIndex.get(id);
+    }
+
+    /**
+     * Returns the current position of the task with the specified id.
+     *
+     * @param id the id of the task
+     * @return the zero-based index of the task, or -1 if no task in the list has that id
+     */
+    public int indexOf(long id) {
+        if (!idIndex.containsKey(id)) {
+            return -1;
+        }
+        int position = search(id);
+        return position >= 0 ? position : -1;
+    }
+
+    /**
+     * Finds the position of the given id in the list, which is sorted by id, by binary search.
+     *
+     * @param id the id to look for
+     * @return the index of the task with that id, or {@code -(insertion point) - 1} if there is none
+     */
+    private int search(long id) {
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = tasks.get(mid).getId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Puts a task removed from this list back, with its original id, at the position that id gives it.
+     * Restoring tasks in the reverse order of their removal puts each one back at its old index.
+     *
+     * @param task the removed task to restore
+     * @return the zero-based index the task was restored at
+     */
+    public int restore(Task task) {
+        assert task.getId() > 0 && !idIndex.containsKey(task.getId()) : "Task must have been removed from this list";
+        int index = -(search(task.getId()) + 1);
+        tasks.add(index, task);
+        register(task);
+        return index;
+    }
+
     /**
      * Removes and returns the task at the specified index.
      *
@@ -118,7 +418,84 @@ public class TaskList {
      */
     public Task remove(int index) {
         assert index >= 0 : "Index must be non-negative: " + index;
-        return tasks.remove(index);
+        Task removed = tasks.remove(index);
+        untrack(removed);
+        return removed;
+    }
+
+    /**
+     * Removes the tasks at the given positions in a single pass over the list.
+     * The remaining tasks are moved down into place once each, rather than once per removed task.
+     *
+     * @param positions the zero-based positions of the tasks to remove
+     * @return the removed tasks, in list order
+     */
+    public ArrayList<Task> removeAll(BitSet positions) {
+        assert positions.length() <= tasks.size() : "Positions must be within the list";
+        ArrayList<Task> removed = new ArrayList<>(positions.cardinality());
+        int first = positions.nextSetBit(0);
+        if (first < 0) {
+            return removed;
+        }
+
+        int write = first;
+        for (int read = first; read < tasks.size(); read++) {
+            Task task = tasks.get(read);
+            if (positions.get(read)) {
+                removed.add(task);
+            } else {
+                tasks.set(write++, task);
+            }
+        }
+        tasks.subList(write, tasks.size()).clear();
+
+        for (Task task : removed) {
+            unregister(task);
+        }
+        if (keywordIndex != null) {
+            rebuildKeywordIndexIfStale();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the tasks at the given positions.
+     *
+     * @param positions the zero-based positions of the tasks
+     * @return the tasks, in list order
+     */
+    public ArrayList<Task> getTasksAt(BitSet positions) {
+        assert positions.length() <= tasks.size() : "Positions must be within the list";
+        ArrayList<Task> result = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            result.add(tasks.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Sets the done status of the tasks at the given positions.
+     *
+     * @param positions the zero-based positions of the tasks
+     * @param isDone true to mark the tasks as done, false to mark them as not done
+     * @return the tasks whose status changed, in list order
+     */
+    public ArrayList<Task> markAll(BitSet positions, boolean isDone) {
+        assert positions.length() <= tasks.size() : "Positions must be within the list";
+        ArrayList<Task> changed = new ArrayList<>();
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            Task task = tasks.get(i);
+            if (task.isDone() == isDone) {
+                continue;
+            }
+            if (isDone) {
+                task.markAsDone();
+            } else {
+                task.markAsNotDone();
+            }
+            changed.add(task);
+        }
+        return changed;
     }
 
     /**
@@ -133,6 +510,7 @@ public class TaskList {
     /**
      * Returns all tasks in the list.
      * Note: This returns the internal ArrayList reference.
+     * Callers must not add or remove tasks through it, as that bypasses the indexes.
      *
      * @return the ArrayList containing all tasks
      */
@@ -172,40 +550,239 @@ public class TaskList {
     }
 
     /**
-     * Returns all done tasks using Java Streams.
-     * Uses method reference for filtering.
+     * Returns all done tasks, in list order, as found through the done bitset.
      *
      * @return an ArrayList containing only done tasks
      */
     public ArrayList<Task> getDoneTasks() {
-        return tasks.stream()
-                .filter(Task::isDone)
-                .collect(Collectors.toCollection(ArrayList::new));
+        return collectIds(doneIds, doneCount);
     }
 
     /**
-     * Returns all not done tasks using Java Streams.
-     * Uses lambda expression for filtering.
+     * Returns all not done tasks, in list order, as found through the pending bitset.
      *
      * @return an ArrayList containing only not done tasks
      */
     public ArrayList<Task> getNotDoneTasks() {
-        return tasks.stream()
-                .filter(task -> !task.isDone())
-                .collect(Collectors.toCollection(ArrayList::new));
+        return collectIds(pendingIds, tasks.size() - doneCount);
+    }
+
+    /**
+     * Returns the number of done tasks.
+     *
+     * @return the done task count
+     */
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    /**
+     * Returns the number of tasks that are not done.
+     *
+     * @return the not done task count
+     */
+    public int getNotDoneCount() {
+        return tasks.size() - doneCount;
+    }
+
+    /**
+     * Looks up the tasks whose ids are set in the given bitset.
+     * Ids ascend in list order, so the tasks come out in list order.
+     *
+     * @param ids the bitset of task ids
+     * @param count the number of ids set, used to size the result
+     * @return an ArrayList containing the tasks
+     */
+    private ArrayList<Task> collectIds(BitSet ids, int count) {
+        ArrayList<Task> result = new ArrayList<>(count);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            result.add(idIndex.get((long) id));
+        }
+        return result;
     }
 
     /**
-     * Returns tasks matching the given keyword using Java Streams.
-     * Search is case-insensitive.
+     * Returns tasks matching the given keyword, in list order.
+     * Search is case-insensitive. Keywords of three or more characters are looked up
+     * in the keyword index; shorter keywords fall back to scanning every task.
      *
      * @param keyword the keyword to search for
      * @return an ArrayList containing matching tasks
      */
     public ArrayList<Task> findTasks(String keyword) {
         String lowerKeyword = keyword.toLowerCase();
-        return tasks.stream()
+        if (keywordIndex == null) {
+            keywordIndex = new KeywordIndex();
+            keywordIndex.rebuild(tasks);
+        }
+        List<Task> candidates = keywordIndex.getCandidates(lowerKeyword);
+        if (candidates == null) {
+            return tasks.stream()
+                    .filter(task -> task.getDescription().toLowerCase().contains(lowerKeyword))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        return candidates.stream()
+                .filter(task -> task.getOwner() == this)
                 .filter(task -> task.getDescription().toLowerCase().contains(lowerKeyword))
+                .sorted(Comparator.comparingLong(Task::getId))
+                .distinct()
                 .collect(Collectors.toCollection(ArrayList::new));
     }
+
+    /**
+     * Returns the deadlines due and the events taking place between the given times, both included.
+     * Tasks are in time order, by due time for deadlines and start time for events,
+     * as found through the time index.
+     *
+     * @param from the start of the period
+     * @param to the end of the period
+     * @return an ArrayList containing the matching tasks
+     */
+    public ArrayList<Task> getTasksBetween(LocalDateTime from, LocalDateTime to) {
+        return getTimeIndex().getTasksBetween(from, to);
+    }
+
+    /**
+     * Returns the other events in this list whose time range overlaps the given event's, in start-time order.
+     * Events that only touch, one ending exactly when the other starts, do not overlap.
+     *
+     * @param event the event to check
+     * @return an ArrayList containing the overlapping events
+     */
+    public ArrayList<Task> getConflictingEvents(Event event) {
+        ArrayList<Task> conflicts = new ArrayList<>();
+        for (Event other : getTimeIndex().getEventsBetween(event.getFrom(), event.getTo())) {
+            boolean isStrictOverlap = other.getFrom().isBefore(event.getTo()) && other.getTo().isAfter(event.getFrom());
+            if (other != event && isStrictOverlap) {
+                conflicts.add(other);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns every event in this list that overlaps at least one other event, in start-time order.
+     *
+     * @return an ArrayList containing the conflicting events
+     */
+    public ArrayList<Task> getEventsWithConflicts() {
+        TimeIndex index = getTimeIndex();
+        ArrayList<Task> result = new ArrayList<>();
+        for (Event event : index.getEventsBetween(LocalDateTime.MIN, LocalDateTime.MAX)) {
+            if (!getConflictingEvents(event).isEmpty()) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the time index, building it from the current tasks on first use.
+     *
+     * @return the time index
+     */
+    private TimeIndex getTimeIndex() {
+        if (timeIndex == null) {
+            timeIndex = new TimeIndex();
+            timeIndex.rebuild(tasks);
+        }
+        return timeIndex;
+    }
+
+    /**
+     * DuplicateKey identifies a task for duplicate detection.
+     * Two tasks have equal keys exactly when they are duplicates of each other:
+     * same type, same description ignoring case, and same time fields.
+     */
+    private static final class DuplicateKey {
+        private final TaskType type;
+        private final String foldedDescription;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private DuplicateKey(TaskType type, String foldedDescription, LocalDateTime start, LocalDateTime end) {
+            this.type = type;
+            this.foldedDescription = foldedDescription;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Builds the key for a task using the given description.
+         *
+         * @param task the task to build the key for
+         * @param description the description to use, which may differ from the current one
+         * @return the duplicate key of the task
+         */
+        static DuplicateKey of(Task task, String description) {
+            String folded = foldCase(description);
+            if (task instanceof Deadline) {
+                return new DuplicateKey(task.getType(), folded, ((Deadline) task).getBy(), null);
+            }
+            if (task instanceof Event) {
+                Event event = (Event) task;
+                return new DuplicateKey(task.getType(), folded, event.getFrom(), event.getTo());
+            }
+            return new DuplicateKey(task.getType(), folded, null, null);
+        }
+
+        /**
+         * Folds the case of a string so that two strings fold to the same value
+         * exactly when {@link String#equalsIgnoreCase} considers them equal.
+         *
+         * @param s the string to fold
+         * @return the case-folded string
+         */
+        private static String foldCase(String s) {
+            if (isAscii(s)) {
+                return s.toLowerCase(Locale.ROOT);
+            }
+            StringBuilder sb = new StringBuilder(s.length());
+            for (int i = 0; i < s.length(); ) {
+                int cp = s.codePointAt(i);
+                sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp)));
+                i += Character.charCount(cp);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Returns true if every character of the string is ASCII, where case folding is plain lowercasing.
+         *
+         * @param s the string to check
+         * @return true if the string is pure ASCII
+         */
+        private static boolean isAscii(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                if (s.charAt(i) >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DuplicateKey)) {
+                return false;
+            }
+            DuplicateKey other = (DuplicateKey) o;
+            return type == other.type
+                    && foldedDescription.equals(other.foldedDescription)
+                    && Objects.equals(start, other.start)
+                    && Objects.equals(end, other.end);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type.hashCode();
+            result = 31 * result + foldedDescription.hashCode();
+            result = 31 * result + Objects.hashCode(start);
+            result = 31 * result + Objects.hashCode(end);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package leo.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * TimeIndex is an incrementally maintained index of deadlines and events ordered by time.
+ * Deadlines are kept in a sorted map keyed by their due time, so the deadlines in a range are found
+ * by one lookup followed by a walk over exactly the matching entries.
+ *
+ * <p>Events are kept in an {@link IntervalTree}, which finds the events overlapping a range
+ * without looking at events that start after it or end before it.</p>
+ */
+public class TimeIndex {
+    private final TreeMap<LocalDateTime, List<Task>> deadlines;
+    private final IntervalTree events;
+
+    /**
+     * Constructs an empty TimeIndex.
+     */
+    public TimeIndex() {
+        this.deadlines = new TreeMap<>();
+        this.events = new IntervalTree();
+    }
+
+    /**
+     * Indexes the given task if it is a deadline or an event; other tasks are ignored.
+     *
+     * @param task the task to index
+     */
+    public void add(Task task) {
+        if (task instanceof Deadline) {
+            insert(deadlines, ((Deadline) task).getBy(), task);
+        } else if (task instanceof Event) {
+            events.add((Event) task);
+        }
+    }
+
+    /**
+     * Removes the given task from the index, if it was indexed.
+     *
+     * @param task the task to remove
+     */
+    public void remove(Task task) {
+        if (task instanceof Deadline) {
+            delete(deadlines, ((Deadline) task).getBy(), task);
+        } else if (task instanceof Event) {
+            events.remove((Event) task);
+        }
+    }
+
+    /**
+     * Discards every entry and indexes the given tasks again.
+     *
+     * @param tasks the tasks currently in the owning list
+     */
+    public void rebuild(List<Task> tasks) {
+        deadlines.clear();
+        events.clear();
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the deadlines due and the events taking place within the given range, both ends included.
+     * The result is in time order: deadlines by due time and events by start time, with tasks at the
+     * same time in id order.
+     *
+     * @param from the start of the range
+     * @param to the end of the range
+     * @return the matching tasks
+     */
+    public ArrayList<Task> getTasksBetween(LocalDateTime from, LocalDateTime to) {
+        ArrayList<Task> result = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return result;
+        }
+
+        Iterator<Map.Entry<LocalDateTime, List<Task>>> dueIt =
+                deadlines.subMap(from, true, to, true).entrySet().iterator();
+        ArrayList<Event> overlapping = events.findOverlapping(from, to);
+        Map.Entry<LocalDateTime, List<Task>> dueBucket = dueIt.hasNext() ? dueIt.next() : null;
+        int eventPos = 0;
+        while (dueBucket != null || eventPos < overlapping.size()) {
+            boolean isDueFirst = eventPos == overlapping.size() || (dueBucket != null
+                    && !overlapping.get(eventPos).getFrom().isBefore(dueBucket.getKey()));
+            if (isDueFirst) {
+                result.addAll(dueBucket.getValue());
+                dueBucket = dueIt.hasNext() ? dueIt.next() : null;
+            } else {
+                result.add(overlapping.get(eventPos++));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the events whose time range overlaps the given range, ends included, in start-time order.
+     *
+     * @param from the start of the range
+     * @param to the end of the range
+     * @return the overlapping events
+     */
+    public ArrayList<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        return events.findOverlapping(from, to);
+    }
+
+    /**
+     * Adds a task to the bucket for the given time, keeping the bucket in id order.
+     *
+     * @param map the map holding the buckets
+     * @param time the time to file the task under
+     * @param task the task to add
+     */
+    private static void insert(TreeMap<LocalDateTime, List<Task>> map, LocalDateTime time, Task task) {
+        List<Task> bucket = map.computeIfAbsent(time, k -> new ArrayList<>(1));
+        int position = bucket.size();
+        while (position > 0 && bucket.get(position - 1).getId() > task.getId()) {
+            position--;
+        }
+        bucket.add(position, task);
+    }
+
+    /**
+     * Removes a task from the bucket for the given time, dropping the bucket once it is empty.
+     *
+     * @param map the map holding the buckets
+     * @param time the time the task is filed under
+     * @param task the task to remove
+     */
+    private static void delete(TreeMap<LocalDateTime, List<Task>> map, LocalDateTime time, Task task) {
+        List<Task> bucket = map.get(time);
+        if (bucket == null) {
+            return;
+        }
+        bucket.removeIf(t -> t == task);
+        if (bucket.isEmpty()) {
+            map.remove(time);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package leo.ui;
+
+import java.util.List;
+
+/**
+ * DialogEntry is a single bubble of the GUI dialog, kept as plain data.
+ * Entries can be created on any thread and are only turned into JavaFX nodes on the application thread.
+ */
+final class DialogEntry {
+    /**
+     * Kind is the style of bubble an entry is shown as.
+     */
+    enum Kind {
+        USER, BOT, ERROR, UNDO, TASK_LIST
+    }
+
+    private final Kind kind;
+    private final String text;
+    private final List<String> rows;
+    private final long charCount;
+
+    /**
+     * Constructs a DialogEntry.
+     *
+     * @param kind the style of bubble to show
+     * @param text the message text, or null for a task list
+     * @param rows the numbered task lines of a task list, or null for a message
+     */
+    private DialogEntry(Kind kind, String text, List<String> rows) {
+        this.kind = kind;
+        this.text = text;
+        this.rows = rows;
+        this.charCount = countChars(text, rows);
+    }
+
+    /**
+     * Counts the characters of an entry's text or rows.
+     *
+     * @param text the message text, or null for a task list
+     * @param rows the numbered task lines, or null for a message
+     * @return the total number of characters
+     */
+    private static long countChars(String text, List<String> rows) {
+        if (rows == null) {
+            return text == null ? 0 : text.length();
+        }
+        long count = 0;
+        for (String row : rows) {
+            count += row.length();
+        }
+        return count;
+    }
+
+    /**
+     * Creates an entry showing a single message.
+     *
+     * @param kind the style of bubble to show, other than a task list
+     * @param text the message text
+     * @return the entry
+     */
+    static DialogEntry message(Kind kind, String text) {
+        assert kind != Kind.TASK_LIST : "Task lists are created with taskList";
+        return new DialogEntry(kind, text, null);
+    }
+
+    /**
+     * Creates an entry showing a scrollable list of numbered tasks.
+     *
+     * @param rows the numbered task lines, in order
+     * @return the entry
+     */
+    static DialogEntry taskList(List<String> rows) {
+        return new DialogEntry(Kind.TASK_LIST, null, rows);
+    }
+
+    /**
+     * Returns the style of bubble this entry is shown as.
+     *
+     * @return the kind of entry
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the message text.
+     *
+     * @return the text, or null for a task list
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the numbered task lines of a task list.
+     *
+     * @return the rows, or null for a message
+     */
+    List<String> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of characters this entry keeps, across its text or all of its rows.
+     *
+     * @return the character count
+     */
+    long getCharCount() {
+        return charCount;
+    }
+}
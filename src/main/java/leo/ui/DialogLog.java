@@ -0,0 +1,154 @@
+package leo.ui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DialogLog keeps track of which dialog entries are on screen and which were evicted to save memory.
+ * At most the configured number of entries are shown; older ones move to a compact text log,
+ * from which they can be restored on demand, newest first. The log itself is bounded as well,
+ * both in entries and in the total characters they keep, since a single task list entry holds every
+ * one of its rows. It drops its oldest entries for good once either limit is passed.
+ *
+ * <p>Restored entries are held on screen until they are released, and nothing is evicted meanwhile,
+ * so new entries do not push out the ones the user just asked to see again.</p>
+ */
+final class DialogLog {
+    private final ArrayDeque<DialogEntry> shownEntries;
+    private final ArrayDeque<DialogEntry> evictedEntries;
+    private final int maxEvicted;
+    private final long maxEvictedChars;
+    private long evictedChars;
+    private int maxShown;
+    private boolean isHoldingRestored;
+
+    /**
+     * Constructs an empty DialogLog.
+     *
+     * @param maxShown the number of entries kept on screen before the oldest are evicted
+     * @param maxEvicted the number of evicted entries kept for restoring
+     * @param maxEvictedChars the total number of characters the evicted entries may keep
+     */
+    DialogLog(int maxShown, int maxEvicted, long maxEvictedChars) {
+        assert maxShown > 0 : "Limit must be positive";
+        assert maxEvicted >= 0 : "Limit cannot be negative";
+        assert maxEvictedChars >= 0 : "Limit cannot be negative";
+        this.shownEntries = new ArrayDeque<>();
+        this.evictedEntries = new ArrayDeque<>();
+        this.maxShown = maxShown;
+        this.maxEvicted = maxEvicted;
+        this.maxEvictedChars = maxEvictedChars;
+    }
+
+    /**
+     * Sets the number of entries kept on screen before the oldest are evicted.
+     *
+     * @param maxShown the new limit
+     */
+    void setMaxShown(int maxShown) {
+        assert maxShown > 0 : "Limit must be positive";
+        this.maxShown = maxShown;
+    }
+
+    /**
+     * Records that an entry was added to the bottom of the dialog.
+     *
+     * @param entry the entry now shown
+     */
+    void show(DialogEntry entry) {
+        shownEntries.addLast(entry);
+    }
+
+    /**
+     * Returns how many of the oldest shown entries are over the limit.
+     * While restored entries are held, none are.
+     *
+     * @return the number of entries to evict, or 0 if none
+     */
+    int getExcessCount() {
+        if (isHoldingRestored) {
+            return 0;
+        }
+        return Math.max(0, shownEntries.size() - maxShown);
+    }
+
+    /**
+     * Moves the oldest shown entry into the log of evicted entries.
+     * An entry that alone keeps more characters than the log may is not kept at all.
+     * Otherwise the oldest evicted entries are dropped while the log is over either of its limits.
+     *
+     * @return the evicted entry
+     */
+    DialogEntry evictOldest() {
+        DialogEntry entry = shownEntries.pollFirst();
+        assert entry != null : "No entry is shown";
+        if (entry.getCharCount() > maxEvictedChars) {
+            return entry;
+        }
+        evictedEntries.addLast(entry);
+        evictedChars += entry.getCharCount();
+        while (evictedEntries.size() > maxEvicted || evictedChars > maxEvictedChars) {
+            evictedChars -= evictedEntries.pollFirst().getCharCount();
+        }
+        return entry;
+    }
+
+    /**
+     * Moves up to the given number of the most recently evicted entries back above the shown ones,
+     * and holds them there until {@link #releaseRestored()} is called.
+     *
+     * @param count the largest number of entries to restore
+     * @return the restored entries, oldest first, as they should appear at the top of the dialog
+     */
+    List<DialogEntry> restoreOlder(int count) {
+        int restoreCount = Math.min(count, evictedEntries.size());
+        ArrayList<DialogEntry> restored = new ArrayList<>(restoreCount);
+        for (int i = 0; i < restoreCount; i++) {
+            DialogEntry entry = evictedEntries.pollLast();
+            evictedChars -= entry.getCharCount();
+            shownEntries.addFirst(entry);
+            restored.add(entry);
+        }
+        if (restoreCount > 0) {
+            isHoldingRestored = true;
+        }
+        Collections.reverse(restored);
+        return restored;
+    }
+
+    /**
+     * Lets restored entries be evicted again, so the shown entries go back down to the limit.
+     */
+    void releaseRestored() {
+        isHoldingRestored = false;
+    }
+
+    /**
+     * Returns true while restored entries are held on screen.
+     *
+     * @return true if restored entries are held
+     */
+    boolean isHoldingRestored() {
+        return isHoldingRestored;
+    }
+
+    /**
+     * Returns the number of shown entries.
+     *
+     * @return the shown entry count
+     */
+    int getShownCount() {
+        return shownEntries.size();
+    }
+
+    /**
+     * Returns the number of evicted entries that can still be restored.
+     *
+     * @return the evicted entry count
+     */
+    int getEvictedCount() {
+        return evictedEntries.size();
+    }
+}
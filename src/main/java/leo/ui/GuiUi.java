@@ -1,8 +1,17 @@
 package leo.ui;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
@@ -22,18 +31,75 @@ import leo.task.TaskList;
  * - Right-aligned user messages, left-aligned bot messages
  * - Distinct error styling to catch user attention
  * - Optimized for space with clean, minimal design</p>
+ *
+ * <p>Task listings longer than {@value #VIRTUALIZED_LIST_THRESHOLD} rows are shown in a single
+ * {@link TaskListView} bubble instead of one bubble per task.</p>
+ *
+ * <p>Messages are collected as {@link DialogEntry} objects and handed to the JavaFX application thread
+ * together on {@link #flush()}, which builds their bubbles and adds them to the dialog in one call.
+ * In buffered output mode everything a command prints becomes a single update of the dialog.
+ * The print methods and flush may run on any thread, but only on one thread at a time.</p>
+ *
+ * <p>The dialog keeps at most a configurable number of bubbles. The oldest are evicted into a
+ * {@link DialogLog}, which keeps them as text up to a character budget, and a link at the top of the dialog
+ * shows them again on demand. Shown again, they stay in the dialog until {@link #releaseOlderMessages()} is called.
+ * Evicted message bubbles are pooled and reused for new messages of the same kind.</p>
+ *
+ * <p>The two profile pictures are drawn once, snapshotted into images, and shown in every bubble
+ * through a lightweight ImageView instead of a new Circle, Label, and StackPane per bubble.</p>
  */
 public class GuiUi extends Ui {
     private VBox dialogContainer;
     private static final int PROFILE_PICTURE_SIZE = 32;
+    private static final int VIRTUALIZED_LIST_THRESHOLD = 50;
+    private static final int DEFAULT_MAX_DIALOG_BUBBLES = 300;
+    private static final int MAX_EVICTED_ENTRIES = 10000;
+    private static final long MAX_EVICTED_CHARS = 2_000_000;
+    private static final int LOAD_OLDER_BATCH_SIZE = 50;
+    private static final int MAX_POOLED_BUBBLES = 64;
+    private final ArrayList<DialogEntry> pendingEntries = new ArrayList<>();
+    private final DialogLog dialogLog = new DialogLog(DEFAULT_MAX_DIALOG_BUBBLES, MAX_EVICTED_ENTRIES,
+            MAX_EVICTED_CHARS);
+    private final EnumMap<DialogEntry.Kind, ArrayDeque<HBox>> bubblePool = new EnumMap<>(DialogEntry.Kind.class);
+    private Hyperlink loadOlderLink;
+    private WritableImage userAvatar;
+    private WritableImage botAvatar;
+    private boolean isShowingOlder;
 
     /**
      * Sets the dialog container for displaying messages.
+     * Must be called on the JavaFX application thread.
      *
      * @param container the VBox to use as the dialog container
      */
     public void setDialogContainer(VBox container) {
         this.dialogContainer = container;
+        loadOlderLink = new Hyperlink();
+        loadOlderLink.getStyleClass().add("load-older");
+        loadOlderLink.setOnAction(event -> showOlderMessages());
+        container.getChildren().add(loadOlderLink);
+        updateLoadOlderLink();
+    }
+
+    /**
+     * Sets how many bubbles the dialog keeps before the oldest are evicted.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param maxDialogBubbles the number of bubbles to keep
+     */
+    public void setMaxDialogBubbles(int maxDialogBubbles) {
+        dialogLog.setMaxShown(maxDialogBubbles);
+        evictOldBubbles();
+    }
+
+    /**
+     * Returns whether the last change to the dialog was showing older messages at its top,
+     * in which case the view should not jump to the newest message.
+     *
+     * @return true if older messages were just shown
+     */
+    public boolean isShowingOlderMessages() {
+        return isShowingOlder;
     }
 
     /**
@@ -61,6 +127,39 @@ public class GuiUi extends Ui {
         return stackPane;
     }
 
+    /**
+     * Draws a profile picture once and captures it as an image with a transparent background.
+     * Runs on the JavaFX application thread.
+     *
+     * @param initial the letter to display
+     * @param isUser true for user (blue), false for bot (green)
+     * @return the rendered profile picture
+     */
+    private WritableImage renderAvatar(String initial, boolean isUser) {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return createProfilePictureRegion(initial, isUser).snapshot(parameters, null);
+    }
+
+    /**
+     * Creates a profile picture view showing the cached user or bot avatar,
+     * rendering the avatar the first time it is needed.
+     *
+     * @param isUser true for the user's picture, false for the bot's
+     * @return an ImageView of the profile picture
+     */
+    private ImageView createProfilePicture(boolean isUser) {
+        if (isUser && userAvatar == null) {
+            userAvatar = renderAvatar("U", true);
+        } else if (!isUser && botAvatar == null) {
+            botAvatar = renderAvatar("L", false);
+        }
+        ImageView profilePicture = new ImageView(isUser ? userAvatar : botAvatar);
+        profilePicture.setFitWidth(PROFILE_PICTURE_SIZE);
+        profilePicture.setFitHeight(PROFILE_PICTURE_SIZE);
+        return profilePicture;
+    }
+
     /**
      * Creates a styled message bubble with profile picture.
      *
@@ -83,14 +182,16 @@ public class GuiUi extends Ui {
         messageWrapper.getStyleClass().add("message-wrapper");
         HBox.setHgrow(messageWrapper, Priority.NEVER);
 
+        container.setUserData(messageLabel);
+
         if (isUserMessage) {
             // User message: profile picture on right, message aligned right
             container.setAlignment(javafx.geometry.Pos.CENTER_RIGHT);
-            Region profilePicture = createProfilePictureRegion("U", true);
+            ImageView profilePicture = createProfilePicture(true);
             container.getChildren().addAll(messageWrapper, profilePicture);
         } else {
             // Bot message: profile picture on left, message aligned left
-            Region profilePicture = createProfilePictureRegion("L", false);
+            ImageView profilePicture = createProfilePicture(false);
             container.getChildren().addAll(profilePicture, messageWrapper);
         }
 
@@ -115,6 +216,7 @@ public class GuiUi extends Ui {
         errorLabel.setPrefWidth(Region.USE_COMPUTED_SIZE);
 
         container.getChildren().add(errorLabel);
+        container.setUserData(errorLabel);
         return container;
     }
 
@@ -136,22 +238,209 @@ public class GuiUi extends Ui {
         undoLabel.setPrefWidth(Region.USE_COMPUTED_SIZE);
 
         container.getChildren().add(undoLabel);
+        container.setUserData(undoLabel);
         return container;
     }
 
     /**
-     * Adds a message bubble to the dialog container.
+     * Creates a bot bubble holding a scrollable list of numbered tasks.
      *
-     * @param text the text to display
-     * @param isUserMessage true if this is a user message, false for bot message
+     * @param rows the numbered task lines to show
+     * @return an HBox containing the profile picture and the task list
      */
-    private void addMessageBubble(String text, boolean isUserMessage) {
-        if (dialogContainer != null) {
-            Platform.runLater(() -> {
-                HBox messageBubble = createMessageBubble(text, isUserMessage);
-                dialogContainer.getChildren().add(messageBubble);
-            });
+    private HBox createTaskListBubble(List<String> rows) {
+        HBox container = new HBox();
+        container.setSpacing(8);
+        container.setAlignment(javafx.geometry.Pos.TOP_LEFT);
+
+        TaskListView listView = new TaskListView(rows);
+        HBox.setHgrow(listView, Priority.ALWAYS);
+
+        ImageView profilePicture = createProfilePicture(false);
+        container.getChildren().addAll(profilePicture, listView);
+        return container;
+    }
+
+    /**
+     * Creates the bubble that shows the given dialog entry.
+     *
+     * @param entry the entry to show
+     * @return the bubble node
+     */
+    private Node createBubble(DialogEntry entry) {
+        switch (entry.getKind()) {
+        case USER:
+            return createMessageBubble(entry.getText(), true);
+
+        case ERROR:
+            return createErrorBubble(entry.getText());
+
+        case UNDO:
+            return createUndoBubble(entry.getText());
+
+        case TASK_LIST:
+            return createTaskListBubble(entry.getRows());
+
+        default:
+            return createMessageBubble(entry.getText(), false);
+        }
+    }
+
+    /**
+     * Returns a bubble showing the given entry, reusing a pooled bubble of the same kind if there is one.
+     *
+     * @param entry the entry to show
+     * @return the bubble node
+     */
+    private Node obtainBubble(DialogEntry entry) {
+        ArrayDeque<HBox> pool = bubblePool.get(entry.getKind());
+        if (pool == null || pool.isEmpty()) {
+            return createBubble(entry);
+        }
+        HBox bubble = pool.pollLast();
+        ((Label) bubble.getUserData()).setText(entry.getText());
+        return bubble;
+    }
+
+    /**
+     * Keeps an evicted bubble for reuse, unless it shows a task list or the pool is full.
+     *
+     * @param bubble the evicted bubble
+     * @param kind the kind of entry it showed
+     */
+    private void recycleBubble(Node bubble, DialogEntry.Kind kind) {
+        if (kind == DialogEntry.Kind.TASK_LIST) {
+            return;
+        }
+        ArrayDeque<HBox> pool = bubblePool.computeIfAbsent(kind, k -> new ArrayDeque<>());
+        if (pool.size() < MAX_POOLED_BUBBLES) {
+            pool.addLast((HBox) bubble);
+        }
+    }
+
+    /**
+     * Adds bubbles for the given entries to the bottom of the dialog, then evicts the oldest bubbles
+     * over the limit. Runs on the JavaFX application thread.
+     *
+     * @param entries the entries to show, in order
+     */
+    private void showEntries(List<DialogEntry> entries) {
+        List<Node> bubbles = new ArrayList<>(entries.size());
+        for (DialogEntry entry : entries) {
+            bubbles.add(obtainBubble(entry));
+            dialogLog.show(entry);
+        }
+        isShowingOlder = false;
+        dialogContainer.getChildren().addAll(bubbles);
+        evictOldBubbles();
+    }
+
+    /**
+     * Removes the oldest bubbles over the limit from the dialog in one call and recycles them.
+     * Runs on the JavaFX application thread.
+     */
+    private void evictOldBubbles() {
+        int excess = dialogLog.getExcessCount();
+        if (excess == 0 || dialogContainer == null) {
+            return;
+        }
+        ObservableList<Node> children = dialogContainer.getChildren();
+        int first = children.indexOf(loadOlderLink) + 1;
+        List<Node> evicted = new ArrayList<>(children.subList(first, first + excess));
+        children.remove(first, first + excess);
+        for (Node bubble : evicted) {
+            recycleBubble(bubble, dialogLog.evictOldest().getKind());
         }
+        updateLoadOlderLink();
+    }
+
+    /**
+     * Shows the most recently evicted messages again at the top of the dialog.
+     * Runs on the JavaFX application thread.
+     */
+    private void showOlderMessages() {
+        List<DialogEntry> restored = dialogLog.restoreOlder(LOAD_OLDER_BATCH_SIZE);
+        List<Node> bubbles = new ArrayList<>(restored.size());
+        for (DialogEntry entry : restored) {
+            bubbles.add(obtainBubble(entry));
+        }
+        isShowingOlder = true;
+        int first = dialogContainer.getChildren().indexOf(loadOlderLink) + 1;
+        dialogContainer.getChildren().addAll(first, bubbles);
+        updateLoadOlderLink();
+    }
+
+    /**
+     * Lets older messages shown again be evicted, trimming the dialog back to its limit.
+     * Called once the user scrolls away from them. Must be called on the JavaFX application thread.
+     */
+    public void releaseOlderMessages() {
+        if (!dialogLog.isHoldingRestored()) {
+            return;
+        }
+        dialogLog.releaseRestored();
+        evictOldBubbles();
+    }
+
+    /**
+     * Shows the link to older messages only while there are evicted messages, with their count.
+     */
+    private void updateLoadOlderLink() {
+        int evictedCount = dialogLog.getEvictedCount();
+        loadOlderLink.setText("Show older messages (" + evictedCount + ")");
+        loadOlderLink.setVisible(evictedCount > 0);
+        loadOlderLink.setManaged(evictedCount > 0);
+    }
+
+    /**
+     * Hands every message printed since the last flush to the JavaFX application thread,
+     * which adds all their bubbles to the dialog at once.
+     */
+    @Override
+    public void flush() {
+        if (pendingEntries.isEmpty()) {
+            return;
+        }
+        List<DialogEntry> batch = new ArrayList<>(pendingEntries);
+        pendingEntries.clear();
+        if (dialogContainer == null) {
+            return;
+        }
+
+        Platform.runLater(() -> showEntries(batch));
+    }
+
+    /**
+     * Adds a numbered list of tasks to the dialog, each followed by its id.
+     * Short lists get one bubble per task; longer lists are shown in a single virtualized bubble.
+     *
+     * @param tasks the tasks to show, in order
+     */
+    private void addTaskRows(List<Task> tasks) {
+        if (tasks.size() <= VIRTUALIZED_LIST_THRESHOLD) {
+            for (int i = 0; i < tasks.size(); i++) {
+                addBotMessage(toRow(i + 1, tasks.get(i)));
+            }
+            return;
+        }
+
+        List<String> rows = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            rows.add(toRow(i + 1, tasks.get(i)));
+        }
+        pendingEntries.add(DialogEntry.taskList(rows));
+    }
+
+    /**
+     * Formats a task as a row of a numbered listing, in the same way as the console.
+     *
+     * @param number the number shown before the task
+     * @param task the task to show
+     * @return the row text
+     */
+    private static String toRow(int number, Task task) {
+        String row = number + "." + task;
+        return task.getId() > 0 ? row + " (#" + task.getId() + ")" : row;
     }
 
     /**
@@ -160,7 +449,7 @@ public class GuiUi extends Ui {
      * @param text the bot's message text
      */
     private void addBotMessage(String text) {
-        addMessageBubble(text, false);
+        pendingEntries.add(DialogEntry.message(DialogEntry.Kind.BOT, text));
     }
 
     /**
@@ -169,7 +458,8 @@ public class GuiUi extends Ui {
      * @param text the user's input text
      */
     public void addUserMessage(String text) {
-        addMessageBubble(text, true);
+        pendingEntries.add(DialogEntry.message(DialogEntry.Kind.USER, text));
+        endMessage();
     }
 
     /**
@@ -178,12 +468,7 @@ public class GuiUi extends Ui {
      * @param text the error message to display
      */
     private void addErrorMessage(String text) {
-        if (dialogContainer != null) {
-            Platform.runLater(() -> {
-                HBox errorBubble = createErrorBubble(text);
-                dialogContainer.getChildren().add(errorBubble);
-            });
-        }
+        pendingEntries.add(DialogEntry.message(DialogEntry.Kind.ERROR, text));
     }
 
     /**
@@ -192,31 +477,76 @@ public class GuiUi extends Ui {
      * @param text the undo message to display
      */
     private void addUndoMessage(String text) {
-        if (dialogContainer != null) {
-            Platform.runLater(() -> {
-                HBox undoBubble = createUndoBubble(text);
-                dialogContainer.getChildren().add(undoBubble);
-            });
-        }
+        pendingEntries.add(DialogEntry.message(DialogEntry.Kind.UNDO, text));
     }
 
     @Override
     public void printGreeting() {
         addBotMessage("Hello! I'm Leo");
         addBotMessage("What can I do for you?");
+        endMessage();
     }
 
     @Override
     public void printGoodbye() {
         addBotMessage("Bye. Hope to see you again soon!");
+        endMessage();
     }
 
     @Override
-    public void printList(java.util.ArrayList<Task> tasks) {
+    public void printList(ArrayList<Task> tasks) {
         addBotMessage("Here are the tasks in your list:");
-        for (int i = 0; i < tasks.size(); i++) {
-            addBotMessage((i + 1) + "." + tasks.get(i));
+        addTaskRows(tasks);
+        endMessage();
+    }
+
+    @Override
+    public void printStatusList(String status, ArrayList<Task> tasks) {
+        if (tasks.isEmpty()) {
+            addBotMessage("You have no " + status + " tasks.");
+        } else {
+            addBotMessage("Here are the " + tasks.size() + " " + status + " tasks in your list:");
+            addTaskRows(tasks);
+        }
+        endMessage();
+    }
+
+    @Override
+    public void printMarkedTasks(ArrayList<Task> tasks) {
+        addBotMessage("Nice! I've marked these " + tasks.size() + " tasks as done:");
+        addTaskRows(tasks);
+        endMessage();
+    }
+
+    @Override
+    public void printUnmarkedTasks(ArrayList<Task> tasks) {
+        addBotMessage("OK, I've marked these " + tasks.size() + " tasks as not done yet:");
+        addTaskRows(tasks);
+        endMessage();
+    }
+
+    @Override
+    public void printDeletedTasks(ArrayList<Task> tasks, int taskCount) {
+        addBotMessage("Noted. I've removed these " + tasks.size() + " tasks:");
+        addTaskRows(tasks);
+        addBotMessage("Now you have " + taskCount + " tasks in the list.");
+        endMessage();
+    }
+
+    @Override
+    public void printImportProgress(int lineCount) {
+        addBotMessage("Importing... " + lineCount + " lines read so far.");
+        flush();
+    }
+
+    @Override
+    public void printImportResult(String source, int importedCount, int duplicateCount, int repeatedCount,
+            int invalidCount, int taskCount) {
+        for (String line : describeImport(source, importedCount, duplicateCount, repeatedCount, invalidCount,
+                taskCount)) {
+            addBotMessage(line);
         }
+        endMessage();
     }
 
     @Override
@@ -224,6 +554,7 @@ public class GuiUi extends Ui {
         addBotMessage("Got it. I've added this task:");
         addBotMessage("  " + task);
         addBotMessage("Now you have " + taskCount + " tasks in the list.");
+        endMessage();
     }
 
     @Override
@@ -231,18 +562,21 @@ public class GuiUi extends Ui {
         addBotMessage("Noted. I've removed this task:");
         addBotMessage("  " + task);
         addBotMessage("Now you have " + taskCount + " tasks in the list.");
+        endMessage();
     }
 
     @Override
     public void printMarkedTask(Task task) {
         addBotMessage("Nice! I've marked this task as done:");
         addBotMessage("  " + task);
+        endMessage();
     }
 
     @Override
     public void printUnmarkedTask(Task task) {
         addBotMessage("OK, I've marked this task as not done yet:");
         addBotMessage("  " + task);
+        endMessage();
     }
 
     @Override
@@ -252,30 +586,55 @@ public class GuiUi extends Ui {
         for (String line : lines) {
             addErrorMessage(line);
         }
+        endMessage();
     }
 
     @Override
     public void printUndo(String message) {
         // A-BetterGui: Undo messages use green success styling
         addUndoMessage(message);
+        endMessage();
     }
 
     @Override
     public void printFindResults(String keyword, TaskList tasks, String searchKeyword) {
         addBotMessage("Here are the matching tasks in your list:");
 
-        java.util.ArrayList<Task> allTasks = tasks.getAll();
-        int matchCount = 0;
-        for (int i = 0; i < allTasks.size(); i++) {
-            Task task = allTasks.get(i);
-            if (task.getDescription().toLowerCase().contains(searchKeyword.toLowerCase())) {
-                matchCount++;
-                addBotMessage((matchCount) + "." + task);
-            }
-        }
+        ArrayList<Task> matches = tasks.findTasks(searchKeyword);
+        addTaskRows(matches);
 
-        if (matchCount == 0) {
+        if (matches.isEmpty()) {
             addBotMessage("No tasks found containing \"" + keyword + "\".");
         }
+        endMessage();
+    }
+
+    @Override
+    public void printTasksInPeriod(String period, ArrayList<Task> matches) {
+        addBotMessage("Here are the tasks " + period + ":");
+        addTaskRows(matches);
+
+        if (matches.isEmpty()) {
+            addBotMessage("No deadlines or events found " + period + ".");
+        }
+        endMessage();
+    }
+
+    @Override
+    public void printConflicts(ArrayList<Task> events) {
+        if (events.isEmpty()) {
+            addBotMessage("No overlapping events found.");
+        } else {
+            addBotMessage("Here are the events that overlap another event:");
+            addTaskRows(events);
+        }
+        endMessage();
+    }
+
+    @Override
+    public void printConflictWarning(ArrayList<Task> conflicts) {
+        addBotMessage("Heads up! This event overlaps with:");
+        addTaskRows(conflicts);
+        endMessage();
     }
 }
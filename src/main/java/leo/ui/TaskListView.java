@@ -0,0 +1,34 @@
+package leo.ui;
+
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ListView;
+
+/**
+ * TaskListView shows a long numbered list of tasks inside a single dialog bubble.
+ * It is a ListView, which only creates cells for the rows currently on screen and reuses them while
+ * scrolling, so a list of tens of thousands of tasks costs a few dozen nodes instead of one bubble per task.
+ *
+ * <p>The rows are the task texts as they were when the list was printed, so later changes to the
+ * tasks do not rewrite earlier replies.</p>
+ */
+public class TaskListView extends ListView<String> {
+    private static final double ROW_HEIGHT = 24;
+    private static final int MAX_VISIBLE_ROWS = 15;
+    private static final double BORDER_ALLOWANCE = 2;
+    private static final double MAX_WIDTH = 300;
+
+    /**
+     * Constructs a TaskListView showing the given rows, tall enough for up to fifteen rows at a time.
+     *
+     * @param rows the numbered task lines to show, in order
+     */
+    public TaskListView(List<String> rows) {
+        super(FXCollections.observableArrayList(rows));
+        setFixedCellSize(ROW_HEIGHT);
+        setPrefHeight(Math.min(rows.size(), MAX_VISIBLE_ROWS) * ROW_HEIGHT + BORDER_ALLOWANCE);
+        setMaxWidth(MAX_WIDTH);
+        setFocusTraversable(false);
+        getStyleClass().add("task-list-view");
+    }
+}
@@ -1,5 +1,6 @@
 package leo.ui;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Scanner;
 
@@ -10,42 +11,123 @@ import leo.task.TaskList;
  * Ui handles all user interface operations for the Leo chatbot.
  * It manages user input and output, including printing messages,
  * displaying task lists, and reading user commands.
+ *
+ * <p>Messages are rendered into a reusable buffer and written to the output stream in one piece.
+ * In buffered output mode the buffer is only written on {@link #flush()}, so everything a command
+ * prints reaches the console in a single write.</p>
  */
 public class Ui {
     protected static final String LINE = "____________________________________________________________";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int INITIAL_BUFFER_CAPACITY = 1024;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 1 << 16;
     private Scanner scanner;
+    private PrintStream out;
+    private StringBuilder buffer;
+    private boolean isBuffered;
 
     /**
      * Constructs a new Ui instance with a scanner for reading user input.
      */
     public Ui() {
+        this(System.out);
+    }
+
+    /**
+     * Constructs a new Ui instance that prints all messages to the given stream.
+     *
+     * @param out the stream to print messages to
+     */
+    public Ui(PrintStream out) {
         this.scanner = new Scanner(System.in);
+        this.out = out;
+        this.buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Switches to buffered output mode, where printed messages are held until {@link #flush()} is called.
+     */
+    public void enableBufferedOutput() {
+        this.isBuffered = true;
+    }
+
+    /**
+     * Writes everything printed since the last flush to the output stream.
+     * A buffer that grew large for a long message is released afterwards.
+     */
+    public void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        out.append(buffer);
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        } else {
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Adds a line of text to the buffer.
+     *
+     * @param text the line to add, without a line separator
+     */
+    private void writeLine(String text) {
+        buffer.append(text).append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Adds a numbered task line, as shown in task listings, to the buffer.
+     * The line ends with the task's id, which commands accept as {@code #<id>}.
+     *
+     * @param number the number shown before the task
+     * @param task the task to show
+     */
+    private void writeNumberedTask(int number, Task task) {
+        buffer.append(number).append('.').append(task);
+        if (task.getId() > 0) {
+            buffer.append(" (#").append(task.getId()).append(')');
+        }
+        buffer.append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Ends a message, writing it out at once unless output is buffered.
+     * Subclasses that override the print methods call this after each message.
+     */
+    protected void endMessage() {
+        if (!isBuffered) {
+            flush();
+        }
     }
 
     /**
      * Prints a separator line to the console.
      */
     public void printLine() {
-        System.out.println(LINE);
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
      * Prints the greeting message when the chatbot starts.
      */
     public void printGreeting() {
-        printLine();
-        System.out.println("Hello! I'm Leo");
-        System.out.println("What can I do for you?");
-        printLine();
+        writeLine(LINE);
+        writeLine("Hello! I'm Leo");
+        writeLine("What can I do for you?");
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
      * Prints the goodbye message when the chatbot exits.
      */
     public void printGoodbye() {
-        printLine();
-        System.out.println("Bye. Hope to see you again soon!");
-        printLine();
+        writeLine(LINE);
+        writeLine("Bye. Hope to see you again soon!");
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -54,9 +136,10 @@ public class Ui {
      * @param message the undo result message
      */
     public void printUndo(String message) {
-        printLine();
-        System.out.println(message);
-        printLine();
+        writeLine(LINE);
+        writeLine(message);
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -65,12 +148,33 @@ public class Ui {
      * @param tasks the list of tasks to display
      */
     public void printList(ArrayList<Task> tasks) {
-        printLine();
-        System.out.println("Here are the tasks in your list:");
+        writeLine(LINE);
+        writeLine("Here are the tasks in your list:");
         for (int i = 0; i < tasks.size(); i++) {
-            System.out.println((i + 1) + "." + tasks.get(i));
+            writeNumberedTask(i + 1, tasks.get(i));
         }
-        printLine();
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints the tasks of one status, with the number of such tasks.
+     *
+     * @param status the status shown, such as "done" or "pending"
+     * @param tasks the tasks with that status
+     */
+    public void printStatusList(String status, ArrayList<Task> tasks) {
+        writeLine(LINE);
+        if (tasks.isEmpty()) {
+            writeLine("You have no " + status + " tasks.");
+        } else {
+            writeLine("Here are the " + tasks.size() + " " + status + " tasks in your list:");
+            for (int i = 0; i < tasks.size(); i++) {
+                writeNumberedTask(i + 1, tasks.get(i));
+            }
+        }
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -80,11 +184,12 @@ public class Ui {
      * @param taskCount the total number of tasks after adding
      */
     public void printAddedTask(Task task, int taskCount) {
-        printLine();
-        System.out.println("Got it. I've added this task:");
-        System.out.println("  " + task);
-        System.out.println("Now you have " + taskCount + " tasks in the list.");
-        printLine();
+        writeLine(LINE);
+        writeLine("Got it. I've added this task:");
+        writeLine("  " + task);
+        writeLine("Now you have " + taskCount + " tasks in the list.");
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -94,11 +199,12 @@ public class Ui {
      * @param taskCount the total number of tasks after deletion
      */
     public void printDeletedTask(Task task, int taskCount) {
-        printLine();
-        System.out.println("Noted. I've removed this task:");
-        System.out.println("  " + task);
-        System.out.println("Now you have " + taskCount + " tasks in the list.");
-        printLine();
+        writeLine(LINE);
+        writeLine("Noted. I've removed this task:");
+        writeLine("  " + task);
+        writeLine("Now you have " + taskCount + " tasks in the list.");
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -107,10 +213,11 @@ public class Ui {
      * @param task the task that was marked as done
      */
     public void printMarkedTask(Task task) {
-        printLine();
-        System.out.println("Nice! I've marked this task as done:");
-        System.out.println("  " + task);
-        printLine();
+        writeLine(LINE);
+        writeLine("Nice! I've marked this task as done:");
+        writeLine("  " + task);
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -119,10 +226,121 @@ public class Ui {
      * @param task the task that was marked as not done
      */
     public void printUnmarkedTask(Task task) {
-        printLine();
-        System.out.println("OK, I've marked this task as not done yet:");
-        System.out.println("  " + task);
-        printLine();
+        writeLine(LINE);
+        writeLine("OK, I've marked this task as not done yet:");
+        writeLine("  " + task);
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints a confirmation message after marking several tasks as done.
+     *
+     * @param tasks the tasks that were marked as done
+     */
+    public void printMarkedTasks(ArrayList<Task> tasks) {
+        writeTaskBlock("Nice! I've marked these " + tasks.size() + " tasks as done:", tasks);
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints a confirmation message after marking several tasks as not done.
+     *
+     * @param tasks the tasks that were marked as not done
+     */
+    public void printUnmarkedTasks(ArrayList<Task> tasks) {
+        writeTaskBlock("OK, I've marked these " + tasks.size() + " tasks as not done yet:", tasks);
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints a confirmation message after deleting several tasks.
+     *
+     * @param tasks the tasks that were removed
+     * @param taskCount the total number of tasks after deletion
+     */
+    public void printDeletedTasks(ArrayList<Task> tasks, int taskCount) {
+        writeTaskBlock("Noted. I've removed these " + tasks.size() + " tasks:", tasks);
+        writeLine("Now you have " + taskCount + " tasks in the list.");
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints how far an import has got, as a single line.
+     * The line is flushed at once, even in buffered mode, so progress shows while the import runs.
+     *
+     * @param lineCount the number of lines read from the file so far
+     */
+    public void printImportProgress(int lineCount) {
+        writeLine("Importing... " + lineCount + " lines read so far.");
+        flush();
+    }
+
+    /**
+     * Prints the outcome of an import.
+     * The skipped counts are only shown when some lines were skipped.
+     *
+     * @param source the path of the imported file, as given by the user
+     * @param importedCount the number of tasks added to the list
+     * @param duplicateCount the number of tasks skipped because they were already in the list
+     * @param repeatedCount the number of tasks skipped because they appeared earlier in the file
+     * @param invalidCount the number of lines skipped because they were not valid tasks
+     * @param taskCount the total number of tasks after the import
+     */
+    public void printImportResult(String source, int importedCount, int duplicateCount, int repeatedCount,
+            int invalidCount, int taskCount) {
+        writeLine(LINE);
+        for (String line : describeImport(source, importedCount, duplicateCount, repeatedCount, invalidCount,
+                taskCount)) {
+            writeLine(line);
+        }
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Builds the lines describing the outcome of an import, shared by the console and GUI.
+     *
+     * @param source the path of the imported file, as given by the user
+     * @param importedCount the number of tasks added to the list
+     * @param duplicateCount the number of tasks skipped because they were already in the list
+     * @param repeatedCount the number of tasks skipped because they appeared earlier in the file
+     * @param invalidCount the number of lines skipped because they were not valid tasks
+     * @param taskCount the total number of tasks after the import
+     * @return the lines of the message
+     */
+    protected static ArrayList<String> describeImport(String source, int importedCount, int duplicateCount,
+            int repeatedCount, int invalidCount, int taskCount) {
+        ArrayList<String> lines = new ArrayList<>();
+        lines.add("Imported " + importedCount + " tasks from " + source + ".");
+        if (duplicateCount > 0) {
+            lines.add("Skipped " + duplicateCount + " tasks already in the list.");
+        }
+        if (repeatedCount > 0) {
+            lines.add("Skipped " + repeatedCount + " tasks repeated in the file.");
+        }
+        if (invalidCount > 0) {
+            lines.add("Skipped " + invalidCount + " lines that are not valid tasks.");
+        }
+        lines.add("Now you have " + taskCount + " tasks in the list.");
+        return lines;
+    }
+
+    /**
+     * Adds a separator line, a heading, and the given tasks as a numbered listing to the buffer.
+     *
+     * @param heading the line shown above the tasks
+     * @param tasks the tasks to show
+     */
+    private void writeTaskBlock(String heading, ArrayList<Task> tasks) {
+        writeLine(LINE);
+        writeLine(heading);
+        for (int i = 0; i < tasks.size(); i++) {
+            writeNumberedTask(i + 1, tasks.get(i));
+        }
     }
 
     /**
@@ -132,12 +350,67 @@ public class Ui {
      * @param message the error message to display
      */
     public void printError(String message) {
-        printLine();
+        writeLine(LINE);
         String[] lines = message.split("\\R");
         for (String line : lines) {
-            System.out.println(line);
+            writeLine(line);
         }
-        printLine();
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints the deadlines and events found in a period.
+     *
+     * @param period a description of the period, such as "on Dec 1 2025"
+     * @param matches the tasks in the period, in time order
+     */
+    public void printTasksInPeriod(String period, ArrayList<Task> matches) {
+        writeLine(LINE);
+        writeLine("Here are the tasks " + period + ":");
+        for (int i = 0; i < matches.size(); i++) {
+            writeNumberedTask(i + 1, matches.get(i));
+        }
+
+        if (matches.isEmpty()) {
+            writeLine("No deadlines or events found " + period + ".");
+        }
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints the events that overlap at least one other event.
+     *
+     * @param events the conflicting events, in start-time order
+     */
+    public void printConflicts(ArrayList<Task> events) {
+        writeLine(LINE);
+        if (events.isEmpty()) {
+            writeLine("No overlapping events found.");
+        } else {
+            writeLine("Here are the events that overlap another event:");
+            for (int i = 0; i < events.size(); i++) {
+                writeNumberedTask(i + 1, events.get(i));
+            }
+        }
+        writeLine(LINE);
+        endMessage();
+    }
+
+    /**
+     * Prints a warning that a newly added event overlaps existing events.
+     *
+     * @param conflicts the existing events that overlap the new one
+     */
+    public void printConflictWarning(ArrayList<Task> conflicts) {
+        writeLine(LINE);
+        writeLine("Heads up! This event overlaps with:");
+        for (int i = 0; i < conflicts.size(); i++) {
+            writeNumberedTask(i + 1, conflicts.get(i));
+        }
+        writeLine(LINE);
+        endMessage();
     }
 
     /**
@@ -151,29 +424,26 @@ public class Ui {
 
     /**
      * Prints the results of a find command.
-     * Displays all tasks containing the keyword in their description.
+     * Displays all tasks containing the keyword in their description,
+     * as found by {@link TaskList#findTasks(String)}.
      *
      * @param keyword the keyword that was searched
      * @param tasks the task list to search
      * @param searchKeyword the keyword to match against task descriptions
      */
     public void printFindResults(String keyword, TaskList tasks, String searchKeyword) {
-        printLine();
-        System.out.println("Here are the matching tasks in your list:");
-
-        ArrayList<Task> allTasks = tasks.getAll();
-        int matchCount = 0;
-        for (int i = 0; i < allTasks.size(); i++) {
-            Task task = allTasks.get(i);
-            if (task.getDescription().toLowerCase().contains(searchKeyword.toLowerCase())) {
-                matchCount++;
-                System.out.println((matchCount) + "." + task);
-            }
+        writeLine(LINE);
+        writeLine("Here are the matching tasks in your list:");
+
+        ArrayList<Task> matches = tasks.findTasks(searchKeyword);
+        for (int i = 0; i < matches.size(); i++) {
+            writeNumberedTask(i + 1, matches.get(i));
         }
 
-        if (matchCount == 0) {
-            System.out.println("No tasks found containing \"" + keyword + "\".");
+        if (matches.isEmpty()) {
+            writeLine("No tasks found containing \"" + keyword + "\".");
         }
-        printLine();
+        writeLine(LINE);
+        endMessage();
     }
 }
@@ -3,6 +3,7 @@ package leo.util;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -11,6 +12,11 @@ import leo.exception.LeoException;
 /**
  * DateTimeUtil provides utility methods for parsing and formatting dates and times.
  * It supports multiple input formats for user convenience and ISO format for storage.
+ *
+ * <p>User input is recognized in a single pass that picks the format from the shape of the text,
+ * so no format is tried and rejected through a thrown exception. The recognizer follows the rules
+ * of the patterns below, including the default smart resolution, which moves a day past the end
+ * of the month back to its last day and reads 2400 as midnight of the following day.</p>
  */
 public class DateTimeUtil {
     private static final DateTimeFormatter OUTPUT_DATE =
@@ -18,12 +24,15 @@ public class DateTimeUtil {
     private static final DateTimeFormatter OUTPUT_DATE_TIME =
             DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
 
-    private static final DateTimeFormatter ISO_DATE =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter ISO_DATE_TIME =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-    private static final DateTimeFormatter SLASH_DATE_TIME =
-            DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final int MAX_FIELD_DIGITS = 19;
+    private static final int PADDED_YEAR_DIGITS = 4;
+    private static final int MAX_YEAR = Year.MAX_VALUE;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MAX_DAY_OF_MONTH = 31;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int STORED_DATE_LENGTH = 10; // Length of "yyyy-MM-dd"
+    private static final int STORED_DATE_TIME_LENGTH = 16; // Length of "yyyy-MM-ddTHH:mm"
 
     /**
      * Parses a date/time string from user input.
@@ -39,26 +48,9 @@ public class DateTimeUtil {
             throw new LeoException("Date/time cannot be empty.");
         }
 
-        // yyyy-MM-dd
-        try {
-            LocalDate d = LocalDate.parse(s, ISO_DATE);
-            return d.atStartOfDay();
-        } catch (DateTimeParseException ignored) {
-            // try next
-        }
-
-        // yyyy-MM-dd HHmm
-        try {
-            return LocalDateTime.parse(s, ISO_DATE_TIME);
-        } catch (DateTimeParseException ignored) {
-            // try next
-        }
-
-        // d/M/yyyy HHmm
-        try {
-            return LocalDateTime.parse(s, SLASH_DATE_TIME);
-        } catch (DateTimeParseException ignored) {
-            // try next
+        LocalDateTime result = s.indexOf('/') >= 0 ? recognizeSlashDateTime(s) : recognizeIsoDateTime(s);
+        if (result != null) {
+            return result;
         }
 
         throw new LeoException("Invalid date/time format. Try yyyy-MM-dd, yyyy-MM-dd HHmm, or d/M/yyyy HHmm.");
@@ -81,6 +73,8 @@ public class DateTimeUtil {
     /**
      * Parses a date/time string from the storage file.
      * Accepts ISO format: yyyy-MM-ddTHH:MM or yyyy-MM-dd.
+     * The fixed layouts written by {@link #toStoredString(LocalDateTime)} are read directly;
+     * anything else goes through the general ISO parser.
      *
      * @param raw the raw date/time string from storage
      * @return the parsed LocalDateTime
@@ -88,6 +82,14 @@ public class DateTimeUtil {
      */
     public static LocalDateTime parseStored(String raw) throws LeoException {
         String s = raw.trim();
+        if (isStoredLayout(s)) {
+            LocalDateTime result = readStoredLayout(s);
+            if (result == null) {
+                throw new LeoException("Corrupted date/time in save file: " + raw);
+            }
+            return result;
+        }
+
         try {
             if (s.contains("T")) {
                 return LocalDateTime.parse(s);
@@ -107,4 +109,272 @@ public class DateTimeUtil {
     public static String toStoredString(LocalDateTime dt) {
         return dt.toString(); // ISO_LOCAL_DATE_TIME, e.g. 2019-12-02T18:00
     }
+
+    /**
+     * Recognizes a date/time in the yyyy-MM-dd or yyyy-MM-dd HHmm format.
+     *
+     * @param s the trimmed input
+     * @return the date/time, or null if the input is not a valid date/time in either format
+     */
+    private static LocalDateTime recognizeIsoDateTime(String s) {
+        Cursor cursor = new Cursor(s);
+        long year = cursor.readYear();
+        if (year < 0 || !cursor.skip('-')) {
+            return null;
+        }
+        long month = cursor.readDigits(2, 2);
+        if (month < 0 || !cursor.skip('-')) {
+            return null;
+        }
+        long day = cursor.readDigits(2, 2);
+        if (day < 0) {
+            return null;
+        }
+        if (cursor.isAtEnd()) {
+            return resolve(year, month, day, 0, 0);
+        }
+        return recognizeTime(cursor, year, month, day);
+    }
+
+    /**
+     * Recognizes a date/time in the d/M/yyyy HHmm format.
+     *
+     * @param s the trimmed input
+     * @return the date/time, or null if the input is not a valid date/time in this format
+     */
+    private static LocalDateTime recognizeSlashDateTime(String s) {
+        Cursor cursor = new Cursor(s);
+        long day = cursor.readDigits(1, MAX_FIELD_DIGITS);
+        if (day < 0 || !cursor.skip('/')) {
+            return null;
+        }
+        long month = cursor.readDigits(1, MAX_FIELD_DIGITS);
+        if (month < 0 || !cursor.skip('/')) {
+            return null;
+        }
+        long year = cursor.readYear();
+        if (year < 0) {
+            return null;
+        }
+        return recognizeTime(cursor, year, month, day);
+    }
+
+    /**
+     * Recognizes the " HHmm" time that ends the input and combines it with the given date.
+     *
+     * @param cursor the cursor positioned just after the date
+     * @param year the year of the date
+     * @param month the month of the date
+     * @param day the day of the date
+     * @return the date/time, or null if the time is missing or invalid
+     */
+    private static LocalDateTime recognizeTime(Cursor cursor, long year, long month, long day) {
+        if (!cursor.skip(' ')) {
+            return null;
+        }
+        long hour = cursor.readDigits(2, 2);
+        long minute = hour < 0 ? -1 : cursor.readDigits(2, 2);
+        if (minute < 0 || !cursor.isAtEnd()) {
+            return null;
+        }
+        return resolve(year, month, day, hour, minute);
+    }
+
+    /**
+     * Builds a date/time from its fields using smart resolution.
+     * A day past the end of the month becomes the last day of the month, and 2400 becomes
+     * midnight of the following day.
+     *
+     * @param year the year, which must be at least 1
+     * @param month the month of the year
+     * @param day the day of the month
+     * @param hour the hour of the day
+     * @param minute the minute of the hour
+     * @return the date/time, or null if any field is out of range
+     */
+    private static LocalDateTime resolve(long year, long month, long day, long hour, long minute) {
+        boolean hasValidDate = year >= 1 && year <= MAX_YEAR
+                && month >= 1 && month <= MONTHS_PER_YEAR
+                && day >= 1 && day <= MAX_DAY_OF_MONTH;
+        boolean isEndOfDay = hour == HOURS_PER_DAY && minute == 0;
+        boolean hasValidTime = ((hour >= 0 && hour < HOURS_PER_DAY) || isEndOfDay)
+                && minute >= 0 && minute < MINUTES_PER_HOUR;
+        if (!hasValidDate || !hasValidTime) {
+            return null;
+        }
+
+        int monthLength = LocalDate.of((int) year, (int) month, 1).lengthOfMonth();
+        LocalDate date = LocalDate.of((int) year, (int) month, (int) Math.min(day, monthLength));
+        if (!isEndOfDay) {
+            return date.atTime((int) hour, (int) minute);
+        }
+        if (date.equals(LocalDate.MAX)) {
+            return null;
+        }
+        return date.plusDays(1).atStartOfDay();
+    }
+
+    /**
+     * Returns true if the text has the shape of a value written by {@link #toStoredString(LocalDateTime)}:
+     * yyyy-MM-ddTHH:mm, or yyyy-MM-dd for values saved by older versions.
+     *
+     * @param s the trimmed stored value
+     * @return true if the value can be read by {@link #readStoredLayout(String)}
+     */
+    private static boolean isStoredLayout(String s) {
+        int length = s.length();
+        if (length != STORED_DATE_LENGTH && length != STORED_DATE_TIME_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            boolean isExpected;
+            switch (i) {
+            case 4:
+            case 7:
+                isExpected = c == '-';
+                break;
+
+            case 10:
+                isExpected = c == 'T';
+                break;
+
+            case 13:
+                isExpected = c == ':';
+                break;
+
+            default:
+                isExpected = c >= '0' && c <= '9';
+                break;
+            }
+            if (!isExpected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a stored value whose shape has been checked by {@link #isStoredLayout(String)}.
+     * Fields are validated strictly, as with the ISO parser.
+     *
+     * @param s the stored value
+     * @return the date/time, or null if a field is out of range
+     */
+    private static LocalDateTime readStoredLayout(String s) {
+        int year = Cursor.digitsAt(s, 0, 4);
+        int month = Cursor.digitsAt(s, 5, 2);
+        int day = Cursor.digitsAt(s, 8, 2);
+        if (month < 1 || month > MONTHS_PER_YEAR || day < 1) {
+            return null;
+        }
+        LocalDate date = LocalDate.of(year, month, 1);
+        if (day > date.lengthOfMonth()) {
+            return null;
+        }
+        date = date.withDayOfMonth(day);
+        if (s.length() == STORED_DATE_LENGTH) {
+            return date.atStartOfDay();
+        }
+
+        int hour = Cursor.digitsAt(s, 11, 2);
+        int minute = Cursor.digitsAt(s, 14, 2);
+        if (hour >= HOURS_PER_DAY || minute >= MINUTES_PER_HOUR) {
+            return null;
+        }
+        return date.atTime(hour, minute);
+    }
+
+    /**
+     * Cursor reads the fields of a date/time from left to right.
+     */
+    private static final class Cursor {
+        private final String s;
+        private int pos;
+
+        private Cursor(String s) {
+            this.s = s;
+            this.pos = 0;
+        }
+
+        /**
+         * Returns true once every character has been read.
+         *
+         * @return true if there is nothing left to read
+         */
+        boolean isAtEnd() {
+            return pos == s.length();
+        }
+
+        /**
+         * Reads the given character if it is next.
+         *
+         * @param c the character to read
+         * @return true if the character was read
+         */
+        boolean skip(char c) {
+            if (pos < s.length() && s.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Reads a run of ASCII digits, taking at most the given number of them.
+         *
+         * @param minDigits the fewest digits accepted
+         * @param maxDigits the most digits read
+         * @return the value of the digits, or -1 if there were too few
+         */
+        long readDigits(int minDigits, int maxDigits) {
+            int start = pos;
+            long value = 0;
+            while (pos < s.length() && pos - start < maxDigits && isDigit(s.charAt(pos))) {
+                value = value * 10 + (s.charAt(pos) - '0');
+                pos++;
+            }
+            return pos - start < minDigits ? -1 : value;
+        }
+
+        /**
+         * Reads a year: exactly four digits, or a plus sign followed by more than four digits.
+         *
+         * @return the year, or -1 if there is no year in either form
+         */
+        long readYear() {
+            boolean hasSign = skip('+');
+            int start = pos;
+            long year = readDigits(1, MAX_FIELD_DIGITS);
+            int digitCount = pos - start;
+            boolean hasValidWidth = hasSign ? digitCount > PADDED_YEAR_DIGITS : digitCount == PADDED_YEAR_DIGITS;
+            return hasValidWidth ? year : -1;
+        }
+
+        /**
+         * Returns the value of a fixed-width run of digits already known to be ASCII digits.
+         *
+         * @param s the string containing the digits
+         * @param start the index of the first digit
+         * @param count the number of digits
+         * @return the value of the digits
+         */
+        static int digitsAt(String s, int start, int count) {
+            int value = 0;
+            for (int i = start; i < start + count; i++) {
+                value = value * 10 + (s.charAt(i) - '0');
+            }
+            return value;
+        }
+
+        /**
+         * Returns true for the ASCII digits accepted by the date/time patterns.
+         *
+         * @param c the character to check
+         * @return true if the character is 0-9
+         */
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package leo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import leo.storage.Storage;
+import leo.task.TaskList;
+import leo.ui.Ui;
+
+/**
+ * Tests for the CommandWorker class.
+ * Tests cover the order of submitted work, error reporting, and exit handling.
+ */
+public class CommandWorkerTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+    private TaskList tasks;
+    private TestStorage storage;
+    private ByteArrayOutputStream output;
+    private Ui ui;
+    private AtomicBoolean hasExited;
+    private CommandWorker worker;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        storage = new TestStorage();
+        output = new ByteArrayOutputStream();
+        ui = new Ui(new PrintStream(output, true, StandardCharsets.UTF_8));
+        ui.enableBufferedOutput();
+        hasExited = new AtomicBoolean(false);
+        worker = new CommandWorker(tasks, storage, ui, () -> hasExited.set(true));
+    }
+
+    // ==================== Ordering Tests ====================
+
+    @Test
+    public void submitCommand_manyCommands_runInSubmissionOrder() {
+        for (int i = 1; i <= 100; i++) {
+            worker.submitCommand("todo Task " + i);
+        }
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+
+        assertEquals(100, tasks.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Task " + (i + 1), tasks.get(i).getDescription());
+        }
+    }
+
+    @Test
+    public void submitAction_betweenCommands_runsInSubmissionOrder() {
+        List<Integer> sizesSeen = new ArrayList<>();
+        worker.submitCommand("todo First");
+        worker.submitAction(() -> sizesSeen.add(tasks.size()));
+        worker.submitCommand("todo Second");
+        worker.submitAction(() -> sizesSeen.add(tasks.size()));
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+
+        assertEquals(List.of(1, 2), sizesSeen);
+    }
+
+    @Test
+    public void submitCommand_runsOffCallingThread() {
+        List<Thread> threads = new ArrayList<>();
+        worker.submitAction(() -> threads.add(Thread.currentThread()));
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+
+        assertNotSame(Thread.currentThread(), threads.get(0));
+    }
+
+    // ==================== Output Tests ====================
+
+    @Test
+    public void submitCommand_flushesOutputAfterEachCommand() {
+        worker.submitCommand("todo Read book");
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("Got it. I've added this task:"));
+        assertTrue(storage.isSaved);
+    }
+
+    @Test
+    public void submitCommand_invalidCommand_printsError() {
+        worker.submitCommand("blah");
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Not a valid command."));
+        assertEquals(0, tasks.size());
+    }
+
+    // ==================== Exit Tests ====================
+
+    @Test
+    public void submitCommand_bye_callsExitHandler() {
+        worker.submitCommand("bye");
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+        assertTrue(hasExited.get());
+    }
+
+    @Test
+    public void submitCommand_otherCommand_doesNotCallExitHandler() {
+        worker.submitCommand("list");
+        assertTrue(worker.shutdown(TIMEOUT_MILLIS));
+        assertFalse(hasExited.get());
+    }
+
+    /**
+     * TestStorage is a test double for Storage that records saves instead of writing them.
+     */
+    private static class TestStorage extends Storage {
+        boolean isSaved = false;
+
+        TestStorage() {
+            super("data/test_worker.txt");
+        }
+
+        @Override
+        public void save(TaskList tasks) {
+            isSaved = true;
+        }
+    }
+}
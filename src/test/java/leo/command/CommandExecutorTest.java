@@ -7,7 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +30,7 @@ import leo.ui.Ui;
  * Tests for Command execution functionality.
  * Tests cover all command types: ListCommand, ExitCommand, AddTodoCommand,
  * AddDeadlineCommand, AddEventCommand, MarkCommand, UnmarkCommand,
- * DeleteCommand, FindCommand, and UndoCommand.
+ * DeleteCommand, FindCommand, ImportCommand, and UndoCommand.
  */
 public class CommandExecutorTest {
 
@@ -65,6 +69,29 @@ public class CommandExecutorTest {
         assertTrue(ui.output.contains("2.[T][ ] Task 2"));
     }
 
+    @Test
+    public void execute_listDoneCommand_showsOnlyDoneTasks() throws LeoException {
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        tasks.markAsDone(1);
+
+        new ListCommand(ListCommand.Filter.DONE).execute(tasks, storage, ui);
+
+        assertTrue(ui.output.contains("Here are the 1 done tasks in your list:"));
+        assertTrue(ui.output.contains("1.[T][X] Task 2"));
+        assertFalse(ui.output.contains("Task 1"));
+    }
+
+    @Test
+    public void execute_listPendingCommand_noPendingTasks_showsNone() throws LeoException {
+        tasks.add(new Todo("Task 1"));
+        tasks.markAsDone(0);
+
+        new ListCommand(ListCommand.Filter.PENDING).execute(tasks, storage, ui);
+
+        assertTrue(ui.output.contains("You have no pending tasks."));
+    }
+
     // ==================== ExitCommand Tests ====================
 
     @Test
@@ -363,6 +390,265 @@ public class CommandExecutorTest {
         assertTrue(ui.output.contains("2.[T][ ] buy milk"));
     }
 
+    // ==================== Due/On Command Tests ====================
+
+    @Test
+    public void execute_dueCommand_listsTasksInTimeOrder() throws LeoException {
+        tasks.add(new Todo("Read book"));
+        tasks.add(new Deadline("Late report", LocalDateTime.of(2025, 12, 5, 18, 0)));
+        tasks.add(new Event("Workshop", LocalDateTime.of(2025, 12, 2, 9, 0), LocalDateTime.of(2025, 12, 2, 17, 0)));
+        tasks.add(new Deadline("Next year", LocalDateTime.of(2026, 1, 5, 0, 0)));
+
+        new DueCommand(LocalDateTime.of(2025, 12, 1, 0, 0), LocalDateTime.of(2025, 12, 7, 23, 59)).execute(tasks,
+                storage, ui);
+
+        assertTrue(ui.output.contains("1.[E][ ] Workshop"));
+        assertTrue(ui.output.contains("2.[D][ ] Late report"));
+        assertFalse(ui.output.contains("Next year"));
+        assertFalse(ui.output.contains("Read book"));
+        assertFalse(storage.isSaved);
+    }
+
+    @Test
+    public void execute_dueCommand_startAfterEnd_throwsLeoException() {
+        Command cmd = new DueCommand(LocalDateTime.of(2025, 12, 7, 0, 0), LocalDateTime.of(2025, 12, 1, 0, 0));
+        assertThrows(LeoException.class, () -> cmd.execute(tasks, storage, ui));
+    }
+
+    @Test
+    public void execute_onCommand_includesEventSpanningDay() throws LeoException {
+        tasks.add(new Event("Conference", LocalDateTime.of(2025, 12, 1, 9, 0), LocalDateTime.of(2025, 12, 3, 17, 0)));
+        tasks.add(new Deadline("Other day", LocalDateTime.of(2025, 12, 4, 12, 0)));
+
+        new OnCommand(java.time.LocalDate.of(2025, 12, 2)).execute(tasks, storage, ui);
+
+        assertTrue(ui.output.contains("1.[E][ ] Conference"));
+        assertFalse(ui.output.contains("Other day"));
+    }
+
+    @Test
+    public void execute_onCommand_noTasks_showsNoneFound() throws LeoException {
+        new OnCommand(java.time.LocalDate.of(2025, 12, 2)).execute(tasks, storage, ui);
+
+        assertTrue(ui.output.contains("No deadlines or events found on Dec 2 2025"));
+    }
+
+    // ==================== Conflict Tests ====================
+
+    @Test
+    public void execute_addEventCommand_overlappingEvent_warnsAndAdds() throws LeoException {
+        LocalDateTime nine = LocalDateTime.of(2025, 12, 1, 9, 0);
+        tasks.add(new Event("Meeting", nine, nine.plusHours(2)));
+
+        new AddEventCommand("Call", nine.plusHours(1), nine.plusHours(3)).execute(tasks, storage, ui);
+
+        assertEquals(2, tasks.size());
+        assertTrue(ui.output.contains("Heads up! This event overlaps with:"));
+        assertTrue(ui.output.contains("1.[E][ ] Meeting"));
+    }
+
+    @Test
+    public void execute_addEventCommand_conflictCheckDisabled_noWarning() throws LeoException {
+        LocalDateTime nine = LocalDateTime.of(2025, 12, 1, 9, 0);
+        tasks.add(new Event("Meeting", nine, nine.plusHours(2)));
+
+        new AddEventCommand("Call", nine.plusHours(1), nine.plusHours(3), false).execute(tasks, storage, ui);
+
+        assertEquals(2, tasks.size());
+        assertFalse(ui.output.contains("Heads up!"));
+    }
+
+    @Test
+    public void execute_addEventCommand_touchingEvent_noWarning() throws LeoException {
+        LocalDateTime nine = LocalDateTime.of(2025, 12, 1, 9, 0);
+        tasks.add(new Event("Meeting", nine, nine.plusHours(2)));
+
+        new AddEventCommand("Lunch", nine.plusHours(2), nine.plusHours(3)).execute(tasks, storage, ui);
+
+        assertFalse(ui.output.contains("Heads up!"));
+    }
+
+    @Test
+    public void execute_conflictsCommand_listsOverlappingEvents() throws LeoException {
+        LocalDateTime nine = LocalDateTime.of(2025, 12, 1, 9, 0);
+        tasks.add(new Event("Call", nine.plusHours(1), nine.plusHours(3)));
+        tasks.add(new Event("Meeting", nine, nine.plusHours(2)));
+        tasks.add(new Event("Dinner", nine.plusHours(10), nine.plusHours(11)));
+
+        new ConflictsCommand().execute(tasks, storage, ui);
+
+        assertTrue(ui.output.contains("1.[E][ ] Meeting"));
+        assertTrue(ui.output.contains("2.[E][ ] Call"));
+        assertFalse(ui.output.contains("Dinner"));
+    }
+
+    @Test
+    public void execute_conflictsCommand_noConflicts_showsNoneFound() throws LeoException {
+        new ConflictsCommand().execute(tasks, storage, ui);
+
+        assertTrue(ui.output.contains("No overlapping events found."));
+    }
+
+    // ==================== Bulk Command Tests ====================
+
+    @Test
+    public void execute_bulkDeleteCommand_removesSelectedTasksAndSavesOnce() throws LeoException {
+        for (int i = 1; i <= 10; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+        IndexSelection selection = new IndexSelection(new int[]{2, 6, 8}, new int[]{2, 6, 9});
+
+        new BulkDeleteCommand(selection).execute(tasks, storage, ui);
+
+        assertEquals(6, tasks.size());
+        assertEquals("Task 2", tasks.get(1).getDescription());
+        assertEquals("Task 4", tasks.get(2).getDescription());
+        assertEquals("Task 8", tasks.get(5).getDescription());
+        assertEquals(1, storage.saveCount);
+        assertTrue(ui.output.contains("Noted. I've removed these 4 tasks:"));
+    }
+
+    @Test
+    public void execute_bulkMarkCommand_marksRangeAndSavesOnce() throws LeoException {
+        for (int i = 1; i <= 5; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+
+        new BulkMarkCommand(new IndexSelection(new int[]{0}, new int[]{2}), true).execute(tasks, storage, ui);
+
+        assertEquals(3, tasks.getDoneCount());
+        assertFalse(tasks.get(3).isDone());
+        assertEquals(1, storage.saveCount);
+        assertTrue(ui.output.contains("Nice! I've marked these 3 tasks as done:"));
+    }
+
+    @Test
+    public void execute_bulkCommand_outOfRange_throwsAndChangesNothing() throws LeoException {
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        IndexSelection selection = new IndexSelection(new int[]{0}, new int[]{2});
+
+        assertThrows(LeoException.class, () -> new BulkDeleteCommand(selection).execute(tasks, storage, ui));
+        assertThrows(LeoException.class, () -> new BulkMarkCommand(selection, true).execute(tasks, storage, ui));
+
+        assertEquals(2, tasks.size());
+        assertEquals(0, tasks.getDoneCount());
+        assertFalse(storage.isSaved);
+    }
+
+    @Test
+    public void execute_undoBulkDelete_restoresAllTasksInPlace() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        for (int i = 1; i <= 5; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+        Command deleteCmd = new BulkDeleteCommand(new IndexSelection(new int[]{0, 3}, new int[]{1, 3}));
+        history.addCommand(deleteCmd);
+        deleteCmd.execute(tasks, storage, ui);
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertEquals(5, tasks.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Task " + (i + 1), tasks.get(i).getDescription());
+        }
+    }
+
+    @Test
+    public void execute_undoBulkMark_restoresOnlyChangedTasks() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        for (int i = 1; i <= 3; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+        tasks.markAsDone(1);
+        Command markCmd = new BulkMarkCommand(new IndexSelection(new int[]{0}, new int[]{2}), true);
+        history.addCommand(markCmd);
+        markCmd.execute(tasks, storage, ui);
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertFalse(tasks.get(0).isDone());
+        assertTrue(tasks.get(1).isDone());
+        assertFalse(tasks.get(2).isDone());
+        assertTrue(ui.output.contains("2 tasks marked as not done"));
+    }
+
+    // ==================== ImportCommand Tests ====================
+
+    @Test
+    public void execute_importCommand_addsNewTasksSkipsDuplicatesAndSavesOnce() throws Exception {
+        Path file = Paths.get("data/import_test.txt");
+        Files.write(file, List.of("T | 0 | Read book", "T | 1 | Buy milk",
+                "D | 0 | Submit report | 2025-12-31T23:59", "not a task", "T | 0 | read book"));
+        tasks.add(new Todo("Buy milk"));
+        try {
+            new ImportCommand(file.toString()).execute(tasks, storage, ui);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        assertEquals(3, tasks.size());
+        assertEquals("Read book", tasks.get(1).getDescription());
+        assertTrue(tasks.get(2) instanceof Deadline);
+        assertEquals(1, storage.saveCount);
+        assertTrue(ui.output.contains("Imported 2 tasks, skipped 1 duplicates, 1 repeats and 1 invalid lines."));
+    }
+
+    @Test
+    public void execute_importCommand_missingFile_throwsAndChangesNothing() throws LeoException {
+        tasks.add(new Todo("Task 1"));
+
+        LeoException e = assertThrows(LeoException.class, () ->
+                new ImportCommand("data/no_such_import.txt").execute(tasks, storage, ui));
+
+        assertTrue(e.getMessage().contains("Cannot find file to import"));
+        assertEquals(1, tasks.size());
+        assertFalse(storage.isSaved);
+    }
+
+    @Test
+    public void execute_undoImport_removesImportedTasksOnly() throws Exception {
+        CommandHistory history = new CommandHistory();
+        tasks.add(new Todo("Existing"));
+        Path file = Paths.get("data/import_undo_test.csv");
+        Files.write(file, List.of("type,done,description", "T,0,\"Pack bags, shoes\"", "T,1,Existing"));
+        Command importCmd = new ImportCommand(file.toString());
+        history.addCommand(importCmd);
+        try {
+            importCmd.execute(tasks, storage, ui);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertEquals("Pack bags, shoes", tasks.get(1).getDescription());
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertEquals(1, tasks.size());
+        assertEquals("Existing", tasks.get(0).getDescription());
+        assertTrue(ui.output.contains("Undone import command. 1 tasks removed."));
+    }
+
+    @Test
+    public void execute_importNothingNew_isSkippedByUndo() throws Exception {
+        CommandHistory history = new CommandHistory();
+        Command addCmd = new AddTodoCommand("Existing");
+        history.addCommand(addCmd);
+        addCmd.execute(tasks, storage, ui);
+        Path file = Paths.get("data/import_nothing_test.txt");
+        Files.write(file, List.of("T | 0 | Existing"));
+        Command importCmd = new ImportCommand(file.toString());
+        history.addCommand(importCmd);
+        try {
+            importCmd.execute(tasks, storage, ui);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertTrue(tasks.isEmpty());
+    }
+
     // ==================== UndoCommand Tests ====================
 
     @Test
@@ -432,21 +718,141 @@ public class CommandExecutorTest {
     }
 
     @Test
-    public void execute_undoCommand_delete_partialSuccess() throws LeoException {
+    public void execute_undoCommand_delete_restoresTaskAtOriginalIndex() throws LeoException {
         CommandHistory history = new CommandHistory();
-        tasks.add(new Todo("Task to delete"));
+        tasks.add(new Todo("Task 1"));
+        Todo deleted = new Todo("Task to delete");
+        deleted.markAsDone();
+        tasks.add(deleted);
+        tasks.add(new Todo("Task 3"));
 
-        Command deleteCmd = new DeleteCommand(0);
+        Command deleteCmd = new DeleteCommand(1);
         history.addCommand(deleteCmd);
         deleteCmd.execute(tasks, storage, ui);
-        assertEquals(0, tasks.size());
+        assertEquals(2, tasks.size());
 
         Command undoCmd = new UndoCommand(history);
         ui.output = "";
         undoCmd.execute(tasks, storage, ui);
 
-        // Delete cannot fully restore the task
-        assertTrue(ui.output.contains("cannot be fully undone"));
+        assertEquals(3, tasks.size());
+        assertEquals("Task to delete", tasks.get(1).getDescription());
+        assertTrue(tasks.get(1).isDone());
+        assertEquals(2, tasks.get(1).getId());
+        assertTrue(ui.output.contains("Undone delete command"));
+    }
+
+    @Test
+    public void execute_undoCommand_markOfDoneTask_keepsTaskDone() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        Todo todo = new Todo("Test task");
+        todo.markAsDone();
+        tasks.add(todo);
+
+        Command markCmd = new MarkCommand(0);
+        history.addCommand(markCmd);
+        markCmd.execute(tasks, storage, ui);
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertTrue(tasks.get(0).isDone());
+    }
+
+    @Test
+    public void execute_undoCommand_failedCommand_skipped() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        Command addCmd = new AddTodoCommand("Test task");
+        history.addCommand(addCmd);
+        addCmd.execute(tasks, storage, ui);
+
+        Command failedCmd = new MarkCommand(5);
+        history.addCommand(failedCmd);
+        assertThrows(LeoException.class, () -> failedCmd.execute(tasks, storage, ui));
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertEquals(0, tasks.size());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void execute_undoCommand_sequence_restoresOriginalList() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        tasks.add(new Todo("Task 3"));
+        Command[] commands = {
+            new DeleteCommand(0), new MarkCommand(1), new DeleteCommand(0), new AddTodoCommand("Task 4")
+        };
+        for (Command command : commands) {
+            history.addCommand(command);
+            command.execute(tasks, storage, ui);
+        }
+
+        for (int i = 0; i < commands.length; i++) {
+            new UndoCommand(history).execute(tasks, storage, ui);
+        }
+
+        assertEquals(3, tasks.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Task " + (i + 1), tasks.get(i).getDescription());
+            assertFalse(tasks.get(i).isDone());
+        }
+    }
+
+    // ==================== Task Id Tests ====================
+
+    @Test
+    public void execute_markCommandById_marksTask() throws LeoException {
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        tasks.remove(0);
+
+        new MarkCommand(TaskReference.ofId(2)).execute(tasks, storage, ui);
+
+        assertTrue(tasks.get(0).isDone());
+        assertTrue(storage.isSaved);
+    }
+
+    @Test
+    public void execute_deleteCommandByMissingId_throwsLeoException() throws LeoException {
+        tasks.add(new Todo("Task 1"));
+
+        LeoException exception = assertThrows(LeoException.class, () -> {
+            new DeleteCommand(TaskReference.ofId(7)).execute(tasks, storage, ui);
+        });
+        assertTrue(exception.getMessage().contains("#7"));
+    }
+
+    @Test
+    public void execute_undoMarkAfterEarlierDelete_unmarksSameTask() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+
+        Command markCmd = new MarkCommand(1);
+        history.addCommand(markCmd);
+        markCmd.execute(tasks, storage, ui);
+        tasks.remove(0);
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertEquals("Task 2", tasks.get(0).getDescription());
+        assertFalse(tasks.get(0).isDone());
+    }
+
+    @Test
+    public void execute_undoAddAfterLaterAdd_removesAddedTask() throws LeoException {
+        CommandHistory history = new CommandHistory();
+        Command addCmd = new AddTodoCommand("First");
+        history.addCommand(addCmd);
+        addCmd.execute(tasks, storage, ui);
+        tasks.add(new Todo("Second"));
+
+        new UndoCommand(history).execute(tasks, storage, ui);
+
+        assertEquals(1, tasks.size());
+        assertEquals("Second", tasks.get(0).getDescription());
     }
 
     // ==================== Mixed Command Execution Tests ====================
@@ -486,6 +892,7 @@ public class CommandExecutorTest {
      */
     private static class TestStorage extends Storage {
         boolean isSaved = false;
+        int saveCount = 0;
 
         public TestStorage() {
             super("data/test.txt");
@@ -494,6 +901,7 @@ public class CommandExecutorTest {
         @Override
         public void save(TaskList tasks) {
             isSaved = true;
+            saveCount++;
         }
     }
 
@@ -526,6 +934,15 @@ public class CommandExecutorTest {
             }
         }
 
+        @Override
+        public void printStatusList(String status, java.util.ArrayList<Task> tasks) {
+            output += tasks.isEmpty() ? "You have no " + status + " tasks.\n"
+                    : "Here are the " + tasks.size() + " " + status + " tasks in your list:\n";
+            for (int i = 0; i < tasks.size(); i++) {
+                output += (i + 1) + "." + tasks.get(i) + "\n";
+            }
+        }
+
         @Override
         public void printAddedTask(Task task, int taskCount) {
             output += "Got it. I've added this task:\n";
@@ -552,6 +969,34 @@ public class CommandExecutorTest {
             output += "  " + task + "\n";
         }
 
+        @Override
+        public void printMarkedTasks(java.util.ArrayList<Task> tasks) {
+            output += "Nice! I've marked these " + tasks.size() + " tasks as done:\n";
+        }
+
+        @Override
+        public void printUnmarkedTasks(java.util.ArrayList<Task> tasks) {
+            output += "OK, I've marked these " + tasks.size() + " tasks as not done yet:\n";
+        }
+
+        @Override
+        public void printDeletedTasks(java.util.ArrayList<Task> tasks, int taskCount) {
+            output += "Noted. I've removed these " + tasks.size() + " tasks:\n";
+            output += "Now you have " + taskCount + " tasks in the list.\n";
+        }
+
+        @Override
+        public void printImportProgress(int lineCount) {
+            output += "Importing... " + lineCount + " lines read so far.\n";
+        }
+
+        @Override
+        public void printImportResult(String source, int importedCount, int duplicateCount, int repeatedCount,
+                int invalidCount, int taskCount) {
+            output += "Imported " + importedCount + " tasks, skipped " + duplicateCount + " duplicates, "
+                    + repeatedCount + " repeats and " + invalidCount + " invalid lines.\n";
+        }
+
         @Override
         public void printError(String message) {
             output += message + "\n";
@@ -577,5 +1022,33 @@ public class CommandExecutorTest {
         public void printUndo(String message) {
             output += message + "\n";
         }
+
+        @Override
+        public void printConflicts(java.util.ArrayList<Task> events) {
+            output += events.isEmpty() ? "No overlapping events found.\n"
+                    : "Here are the events that overlap another event:\n";
+            for (int i = 0; i < events.size(); i++) {
+                output += (i + 1) + "." + events.get(i) + "\n";
+            }
+        }
+
+        @Override
+        public void printConflictWarning(java.util.ArrayList<Task> conflicts) {
+            output += "Heads up! This event overlaps with:\n";
+            for (int i = 0; i < conflicts.size(); i++) {
+                output += (i + 1) + "." + conflicts.get(i) + "\n";
+            }
+        }
+
+        @Override
+        public void printTasksInPeriod(String period, java.util.ArrayList<Task> matches) {
+            output += "Here are the tasks " + period + ":\n";
+            for (int i = 0; i < matches.size(); i++) {
+                output += (i + 1) + "." + matches.get(i) + "\n";
+            }
+            if (matches.isEmpty()) {
+                output += "No deadlines or events found " + period + ".\n";
+            }
+        }
     }
 }
@@ -72,6 +72,20 @@ public class ParserTest {
         assertTrue(result instanceof DeleteCommand);
     }
 
+    @Test
+    public void parse_listWithStatusFilter_success() throws LeoException {
+        assertTrue(parser.parse("list done") instanceof ListCommand);
+        assertTrue(parser.parse("list PENDING") instanceof ListCommand);
+    }
+
+    @Test
+    public void parse_listWithUnknownFilter_throwsLeoException() {
+        LeoException exception = assertThrows(LeoException.class, () -> {
+            parser.parse("list everything");
+        });
+        assertTrue(exception.getMessage().contains("Usage: list"));
+    }
+
     // ==================== Case Insensitivity Tests ====================
 
     @Test
@@ -228,6 +242,64 @@ public class ParserTest {
         assertTrue(exception.getMessage().contains("<task number>"));
     }
 
+    @Test
+    public void parse_markWithId_returnsMarkCommand() throws LeoException {
+        Command result = parser.parse("mark #12");
+        assertTrue(result instanceof MarkCommand);
+    }
+
+    @Test
+    public void parse_deleteWithId_returnsDeleteCommand() throws LeoException {
+        Command result = parser.parse("delete #3");
+        assertTrue(result instanceof DeleteCommand);
+    }
+
+    @Test
+    public void parse_markWithInvalidId_throwsLeoException() {
+        LeoException exception = assertThrows(LeoException.class, () -> {
+            parser.parse("mark #abc");
+        });
+        assertTrue(exception.getMessage().contains("Task id must be a positive integer"));
+    }
+
+    @Test
+    public void parse_unmarkWithZeroId_throwsLeoException() {
+        LeoException exception = assertThrows(LeoException.class, () -> {
+            parser.parse("unmark #0");
+        });
+        assertTrue(exception.getMessage().contains("Task id must be a positive integer"));
+    }
+
+    // ==================== Bulk Selection Tests ====================
+
+    @Test
+    public void parse_markRange_returnsBulkMarkCommand() throws LeoException {
+        assertTrue(parser.parse("mark 1-500") instanceof BulkMarkCommand);
+        assertTrue(parser.parse("unmark 2,4") instanceof BulkMarkCommand);
+    }
+
+    @Test
+    public void parse_deleteList_returnsBulkDeleteCommand() throws LeoException {
+        assertTrue(parser.parse("delete 3,7,9") instanceof BulkDeleteCommand);
+        assertTrue(parser.parse("delete 3, 7, 1-2") instanceof BulkDeleteCommand);
+    }
+
+    @Test
+    public void parse_bulkCommand_addedToHistory() throws LeoException {
+        parser.parse("delete 3,7,9");
+
+        assertEquals(1, parser.getHistory().getUndoCount());
+    }
+
+    @Test
+    public void parse_invalidSelections_throwLeoException() {
+        String[] inputs = {"mark 1,", "mark ,2", "delete 1-", "delete 5-3", "mark 1-2-3", "delete 1,x", "mark 0-4",
+            "delete 99999999999"};
+        for (String input : inputs) {
+            assertThrows(LeoException.class, () -> parser.parse(input), input);
+        }
+    }
+
     // ==================== Whitespace Handling Tests ====================
 
     @Test
@@ -342,6 +414,54 @@ public class ParserTest {
 
     // Note: Multiple /by keywords test removed as it throws exception on invalid date format
 
+    // ==================== Due/On Command Tests ====================
+
+    @Test
+    public void parse_dueWithDates_success() throws LeoException {
+        Command result = parser.parse("due 2025-12-01 2025-12-07");
+        assertTrue(result instanceof DueCommand);
+    }
+
+    @Test
+    public void parse_dueWithDateTimes_success() throws LeoException {
+        assertTrue(parser.parse("due 2025-12-01 0900 2025-12-07 1800") instanceof DueCommand);
+        assertTrue(parser.parse("due 2025-12-01 0900 2025-12-07") instanceof DueCommand);
+        assertTrue(parser.parse("due 2025-12-01 1/12/2025 1800") instanceof DueCommand);
+    }
+
+    @Test
+    public void parse_dueWithOneDate_throwsLeoException() {
+        LeoException exception = assertThrows(LeoException.class, () -> {
+            parser.parse("due 2025-12-01");
+        });
+        assertTrue(exception.getMessage().contains("Usage:"));
+    }
+
+    @Test
+    public void parse_dueWithInvalidDate_throwsLeoException() {
+        assertThrows(LeoException.class, () -> parser.parse("due tomorrow nextweek"));
+    }
+
+    @Test
+    public void parse_onWithDate_success() throws LeoException {
+        Command result = parser.parse("on 2025-12-01");
+        assertTrue(result instanceof OnCommand);
+    }
+
+    @Test
+    public void parse_onWithoutDate_throwsLeoException() {
+        LeoException exception = assertThrows(LeoException.class, () -> {
+            parser.parse("on");
+        });
+        assertTrue(exception.getMessage().contains("Usage:"));
+    }
+
+    @Test
+    public void parse_conflictsCommand_success() throws LeoException {
+        Command result = parser.parse("conflicts");
+        assertTrue(result instanceof ConflictsCommand);
+    }
+
     // ==================== Additional Find Command Tests ====================
 
     @Test
@@ -392,6 +512,26 @@ public class ParserTest {
         assertTrue(result instanceof AddTodoCommand);
     }
 
+    // ==================== Import Command Tests ====================
+
+    @Test
+    public void parse_importCommand_success() throws LeoException {
+        Command result = parser.parse("import data/tasks.csv");
+        assertTrue(result instanceof ImportCommand);
+    }
+
+    @Test
+    public void parse_importPathWithSpaces_success() throws LeoException {
+        Command result = parser.parse("IMPORT my files/old tasks.txt");
+        assertTrue(result instanceof ImportCommand);
+    }
+
+    @Test
+    public void parse_importWithoutPath_throwsException() {
+        LeoException exception = assertThrows(LeoException.class, () -> parser.parse("import"));
+        assertEquals("Usage: import <file path>", exception.getMessage());
+    }
+
     // ==================== Undo Command Tests ====================
 
     @Test
@@ -458,6 +598,13 @@ public class ParserTest {
         assertEquals(2, parser.getHistory().getUndoCount());
     }
 
+    @Test
+    public void parser_historyTracksImportCommands() throws LeoException {
+        parser.parse("import tasks.txt");
+
+        assertEquals(1, parser.getHistory().getUndoCount());
+    }
+
     @Test
     public void parser_historyDoesNotTrackListCommand() throws LeoException {
         parser.parse("list");
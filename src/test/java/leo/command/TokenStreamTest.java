@@ -0,0 +1,60 @@
+package leo.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the TokenStream class.
+ * Tests check that tokens match splitting the input on whitespace.
+ */
+public class TokenStreamTest {
+
+    @Test
+    public void lex_singleSpaces_splitsTokens() {
+        TokenStream tokens = TokenStream.lex("todo read book");
+        assertEquals(3, tokens.size());
+        assertEquals("todo", tokens.get(0));
+        assertEquals("read", tokens.get(1));
+        assertEquals("book", tokens.get(2));
+    }
+
+    @Test
+    public void lex_mixedWhitespace_splitsOnEveryKind() {
+        TokenStream tokens = TokenStream.lex("mark\t\f 1\r\n2");
+        assertEquals(3, tokens.size());
+        assertEquals("1", tokens.get(1));
+        assertEquals(3, tokens.gapBefore(1));
+    }
+
+    @Test
+    public void lex_emptyInput_hasNoTokens() {
+        assertEquals(0, TokenStream.lex("").size());
+    }
+
+    @Test
+    public void restFrom_keepsInnerWhitespace() {
+        TokenStream tokens = TokenStream.lex("find  big   report");
+        assertEquals("big   report", tokens.restFrom(1));
+        assertEquals("  big   report", tokens.restAfter(0));
+    }
+
+    @Test
+    public void isDigits_checksRestOfToken() {
+        TokenStream tokens = TokenStream.lex("mark #12 3a 7");
+        assertTrue(tokens.isDigits(1, 1));
+        assertFalse(tokens.isDigits(1, 0));
+        assertFalse(tokens.isDigits(2, 0));
+        assertTrue(tokens.isDigits(3, 0));
+        assertFalse(tokens.isDigits(3, 1));
+    }
+
+    @Test
+    public void lex_manyTokens_growsBeyondInitialCapacity() {
+        TokenStream tokens = TokenStream.lex("a b c d e f g h i j");
+        assertEquals(10, tokens.size());
+        assertEquals("j", tokens.get(9));
+    }
+}
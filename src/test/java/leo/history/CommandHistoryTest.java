@@ -5,13 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import leo.command.AddTodoCommand;
 import leo.command.Command;
 import leo.command.MarkCommand;
+import leo.command.UndoableCommand;
 import leo.command.UnmarkCommand;
+import leo.storage.Storage;
+import leo.task.Task;
+import leo.task.TaskList;
+import leo.task.Todo;
+import leo.ui.Ui;
 
 /**
  * Tests for the CommandHistory class.
@@ -190,6 +199,61 @@ public class CommandHistoryTest {
         assertFalse(history.undo());
     }
 
+    // ==================== Capacity Tests ====================
+
+    @Test
+    public void addCommand_beyondCapacity_forgetsOldest() {
+        CommandHistory bounded = new CommandHistory(2);
+        Command cmd1 = new AddTodoCommand("Task 1");
+        Command cmd2 = new AddTodoCommand("Task 2");
+        Command cmd3 = new AddTodoCommand("Task 3");
+
+        bounded.addCommand(cmd1);
+        bounded.addCommand(cmd2);
+        bounded.addCommand(cmd3);
+
+        assertEquals(2, bounded.getUndoCount());
+        assertEquals(cmd3, bounded.getLastCommand());
+        bounded.undo();
+        assertEquals(cmd2, bounded.getLastCommand());
+        bounded.undo();
+        assertFalse(bounded.canUndo());
+    }
+
+    @Test
+    public void addCommand_beyondSizeBudget_forgetsOldest() {
+        CommandHistory bounded = new CommandHistory(100, 10);
+        Command small = new RecordedCommand(1);
+        Command bulk = new RecordedCommand(8);
+        Command next = new RecordedCommand(1);
+        Command last = new RecordedCommand(1);
+
+        bounded.addCommand(small);
+        bounded.addCommand(bulk);
+        bounded.addCommand(next);
+        assertEquals(3, bounded.getUndoCount());
+
+        bounded.addCommand(last);
+        assertEquals(3, bounded.getUndoCount());
+        bounded.undo();
+        bounded.undo();
+        assertEquals(bulk, bounded.getLastCommand());
+    }
+
+    @Test
+    public void addCommand_newestOverSizeBudget_isKept() {
+        CommandHistory bounded = new CommandHistory(100, 10);
+        Command bulk = new RecordedCommand(50);
+        Command next = new RecordedCommand(1);
+
+        bounded.addCommand(bulk);
+        assertEquals(bulk, bounded.getLastCommand());
+
+        bounded.addCommand(next);
+        assertEquals(1, bounded.getUndoCount());
+        assertEquals(next, bounded.getLastCommand());
+    }
+
     // ==================== Undo with Redo Scenario Tests ====================
 
     @Test
@@ -300,4 +364,28 @@ public class CommandHistoryTest {
         Command firstCmd = history.getLastCommand();
         assertTrue(firstCmd instanceof AddTodoCommand);
     }
+
+    /**
+     * A command whose undo record holds a given number of removed tasks.
+     */
+    private static class RecordedCommand extends Command implements UndoableCommand {
+        private final UndoRecord undoRecord;
+
+        RecordedCommand(int taskCount) {
+            List<Task> removed = new ArrayList<>();
+            for (int i = 0; i < taskCount; i++) {
+                removed.add(new Todo("Task " + i));
+            }
+            undoRecord = UndoRecord.ofBulkDelete(removed);
+        }
+
+        @Override
+        public void execute(TaskList tasks, Storage storage, Ui ui) {
+        }
+
+        @Override
+        public UndoRecord getUndoRecord() {
+            return undoRecord;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package leo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the CsvFields class.
+ * Tests check that comma-separated lines split into the same fields as stored lines.
+ */
+public class CsvFieldsTest {
+
+    private CsvFields fields;
+
+    @BeforeEach
+    public void setUp() {
+        fields = new CsvFields();
+    }
+
+    @Test
+    public void scan_csvEvent_splitsAllFields() {
+        assertEquals(5, fields.scan("E,0,Project meeting,2025-06-15T10:00,2025-06-15T11:00"));
+        assertEquals("E", fields.field(0));
+        assertEquals("0", fields.field(1));
+        assertEquals("Project meeting", fields.field(2));
+        assertEquals("2025-06-15T10:00", fields.field(3));
+        assertEquals("2025-06-15T11:00", fields.field(4));
+    }
+
+    @Test
+    public void scan_quotedField_keepsCommasAndEscapedQuotes() {
+        assertEquals(3, fields.scan("T, 1 ,\"Buy eggs, milk and \"\"fresh\"\" bread\""));
+        assertEquals("1", fields.field(1));
+        assertEquals("Buy eggs, milk and \"fresh\" bread", fields.field(2));
+    }
+
+    @Test
+    public void scan_blankLine_returnsZero() {
+        assertEquals(0, fields.scan("  "));
+        assertEquals(0, fields.scan(""));
+    }
+
+    @Test
+    public void scan_trailingEmptyFields_areDropped() {
+        assertEquals(2, fields.scan("T,0,, "));
+    }
+
+    @Test
+    public void scan_emptyMiddleField_isKept() {
+        assertEquals(4, fields.scan("D,0,,2025-12-31T23:59"));
+        assertEquals("", fields.field(2));
+    }
+
+    @Test
+    public void fieldEquals_comparesWholeField() {
+        fields.scan("T,10,Task");
+        assertTrue(fields.fieldEquals(0, "T"));
+        assertFalse(fields.fieldEquals(1, "1"));
+    }
+}
@@ -0,0 +1,71 @@
+package leo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the FieldScanner class.
+ * Tests check that scanning matches the regex split previously used by Storage.
+ */
+public class FieldScannerTest {
+
+    private FieldScanner scanner;
+
+    @BeforeEach
+    public void setUp() {
+        scanner = new FieldScanner();
+    }
+
+    @Test
+    public void scan_storedDeadline_splitsAllFields() {
+        assertEquals(4, scanner.scan("D | 1 | Finish report | 2025-12-31T23:59"));
+        assertEquals("D", scanner.field(0));
+        assertEquals("1", scanner.field(1));
+        assertEquals("Finish report", scanner.field(2));
+        assertEquals("2025-12-31T23:59", scanner.field(3));
+    }
+
+    @Test
+    public void scan_irregularWhitespace_trimsAroundPipes() {
+        assertEquals(3, scanner.scan("  T|0 |\tRead  book  "));
+        assertEquals("T", scanner.field(0));
+        assertEquals("0", scanner.field(1));
+        assertEquals("Read  book", scanner.field(2));
+    }
+
+    @Test
+    public void scan_blankLine_returnsZero() {
+        assertEquals(0, scanner.scan("   "));
+        assertEquals(0, scanner.scan(""));
+    }
+
+    @Test
+    public void scan_trailingEmptyFields_areDropped() {
+        assertEquals(2, scanner.scan("T | 0 |  | "));
+    }
+
+    @Test
+    public void scan_leadingEmptyField_isKept() {
+        assertEquals(2, scanner.scan("| T"));
+        assertEquals("", scanner.field(0));
+        assertEquals("T", scanner.field(1));
+    }
+
+    @Test
+    public void fieldEquals_comparesWholeField() {
+        scanner.scan("T | 10 | Task");
+        assertTrue(scanner.fieldEquals(0, "T"));
+        assertTrue(scanner.fieldEquals(1, "10"));
+        assertFalse(scanner.fieldEquals(1, "1"));
+    }
+
+    @Test
+    public void scan_manyFields_growsBeyondInitialCapacity() {
+        assertEquals(10, scanner.scan("a|b|c|d|e|f|g|h|i|j"));
+        assertEquals("j", scanner.field(9));
+    }
+}
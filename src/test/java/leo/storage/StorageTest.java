@@ -3,17 +3,21 @@ package leo.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import leo.exception.LeoException;
 import leo.task.Deadline;
 import leo.task.Event;
 import leo.task.Task;
@@ -27,6 +31,7 @@ import leo.task.Todo;
 public class StorageTest {
 
     private static final String TEST_FILE_PATH = "data/test_leo.txt";
+    private static final String TEST_JOURNAL_PATH = "data/test_leo.txt.journal";
     private Storage storage;
 
     @BeforeEach
@@ -36,6 +41,7 @@ public class StorageTest {
         if (Files.exists(testFile)) {
             Files.delete(testFile);
         }
+        Files.deleteIfExists(Paths.get(TEST_JOURNAL_PATH));
         storage = new Storage(TEST_FILE_PATH);
     }
 
@@ -46,6 +52,7 @@ public class StorageTest {
         if (Files.exists(testFile)) {
             Files.delete(testFile);
         }
+        Files.deleteIfExists(Paths.get(TEST_JOURNAL_PATH));
     }
 
     // ==================== Constructor Tests ====================
@@ -163,6 +170,24 @@ public class StorageTest {
         assertEquals("Task 2", tasks.get(1).getDescription());
     }
 
+    @Test
+    public void load_fileWithMixedLineEndings_success() throws Exception {
+        String content = "T | 0 | Simple task\r\n"
+                + "\r\n"
+                + "D | 1 | Deadline task | 2025-12-31T23:59\r"
+                + "  E|0|Caf\u00e9 meeting|2025-06-15T10:00|2025-06-15T12:00  \n"
+                + "X | 0 | Last line without break";
+        Files.writeString(Paths.get(TEST_FILE_PATH), content);
+
+        TaskList tasks = storage.load();
+        assertEquals(3, tasks.size());
+        assertEquals("Simple task", tasks.get(0).getDescription());
+        assertTrue(tasks.get(1) instanceof Deadline);
+        assertTrue(tasks.get(1).isDone());
+        assertTrue(tasks.get(2) instanceof Event);
+        assertEquals("Caf\u00e9 meeting", tasks.get(2).getDescription());
+    }
+
     // ==================== Save Method Tests ====================
 
     @Test
@@ -172,7 +197,7 @@ public class StorageTest {
 
         Path testFile = Paths.get(TEST_FILE_PATH);
         assertTrue(Files.exists(testFile));
-        assertEquals(0, Files.size(testFile));
+        assertEquals(List.of("GENERATION | 1 | 1"), Files.readAllLines(testFile));
     }
 
     @Test
@@ -306,4 +331,587 @@ public class StorageTest {
         assertTrue(loaded.get(2) instanceof Event);
         assertTrue(loaded.get(1).isDone());
     }
+
+    @Test
+    public void saveAndLoad_taskIds_areKeptAcrossSessions() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Deadline("Task 2", java.time.LocalDateTime.of(2025, 12, 31, 23, 59)));
+        tasks.add(new Todo("Task 3"));
+        tasks.remove(0);
+        storage.save(tasks);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(2, loaded.get(0).getId());
+        assertEquals(3, loaded.get(1).getId());
+        loaded.add(new Todo("Task 4"));
+        assertEquals(4, loaded.get(2).getId());
+    }
+
+    @Test
+    public void saveAndLoad_lastTaskDeleted_idIsNotReused() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        tasks.remove(1);
+        storage.save(tasks);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        loaded.add(new Todo("Task 3"));
+
+        assertEquals(3, loaded.get(1).getId());
+    }
+
+    @Test
+    public void saveAndLoad_binaryLastTaskDeleted_idIsNotReused() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        tasks.remove(1);
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        storage.save(tasks);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        loaded.add(new Todo("Task 3"));
+
+        assertEquals(3, loaded.get(1).getId());
+    }
+
+    @Test
+    public void load_journalAddedAndDeletedLastTask_idIsNotReused() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Task 1"));
+        storage.enableJournal(100);
+        storage.save(tasks);
+        Todo added = new Todo("Task 2");
+        tasks.add(added);
+        storage.recordAdd(tasks, added);
+        tasks.remove(1);
+        storage.recordDelete(tasks, 1);
+
+        Storage reopened = new Storage(TEST_FILE_PATH);
+        reopened.enableJournal(100);
+        TaskList loaded = reopened.load();
+        loaded.add(new Todo("Task 3"));
+
+        assertEquals(2, loaded.size());
+        assertEquals(3, loaded.get(1).getId());
+    }
+
+    @Test
+    public void load_headerWithoutNextId_continuesAfterLastId() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "GENERATION | 4\nT | 0 | Task 1 | #2\n");
+
+        TaskList loaded = storage.load();
+        loaded.add(new Todo("Task 2"));
+
+        assertEquals(3, loaded.get(1).getId());
+    }
+
+    @Test
+    public void load_idsOutOfOrder_reassignsIdsInListOrder() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 0 | Task 1 | #5\nT | 0 | Task 2 | #2\nT | 0 | Task 3\n");
+
+        TaskList loaded = storage.load();
+
+        assertEquals(3, loaded.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 1, loaded.get(i).getId());
+        }
+    }
+
+    @Test
+    public void load_binarySnapshot_keepsTaskIds() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Task 1"));
+        tasks.add(new Todo("Task 2"));
+        tasks.remove(0);
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        storage.save(tasks);
+
+        assertEquals(2, new Storage(TEST_FILE_PATH).load().get(0).getId());
+    }
+
+    // ==================== Journal Mode Tests ====================
+
+    @Test
+    public void recordAdd_journalDisabled_savesSnapshot() throws Exception {
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Buy groceries");
+        tasks.add(todo);
+
+        storage.recordAdd(tasks, todo);
+
+        assertTrue(Files.readString(Paths.get(TEST_FILE_PATH)).contains("T | 0 | Buy groceries"));
+        assertFalse(Files.exists(Paths.get(TEST_JOURNAL_PATH)));
+    }
+
+    @Test
+    public void recordAdd_journalEnabled_appendsWithoutRewritingSnapshot() throws Exception {
+        storage.enableJournal(100);
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Buy groceries");
+        tasks.add(todo);
+
+        storage.recordAdd(tasks, todo);
+
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH)));
+        assertTrue(Files.readString(Paths.get(TEST_JOURNAL_PATH)).contains("ADD | T | 0 | Buy groceries"));
+    }
+
+    @Test
+    public void load_journalEnabled_replaysSnapshotAndJournal() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 0 | Task 1\nT | 0 | Task 2\nT | 0 | Task 3\n");
+        storage.enableJournal(100);
+        TaskList tasks = storage.load();
+
+        Deadline deadline = new Deadline("Finish report",
+                java.time.LocalDateTime.of(2025, 12, 31, 23, 59));
+        tasks.add(deadline);
+        storage.recordAdd(tasks, deadline);
+        tasks.markAsDone(0);
+        storage.recordMark(tasks, 0);
+        tasks.remove(1);
+        storage.recordDelete(tasks, 1);
+        tasks.markAsDone(2);
+        storage.recordMark(tasks, 2);
+        tasks.markAsNotDone(2);
+        storage.recordUnmark(tasks, 2);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(3, loaded.size());
+        assertEquals("Task 1", loaded.get(0).getDescription());
+        assertTrue(loaded.get(0).isDone());
+        assertEquals("Task 3", loaded.get(1).getDescription());
+        assertTrue(loaded.get(2) instanceof Deadline);
+        assertFalse(loaded.get(2).isDone());
+    }
+
+    @Test
+    public void recordInsert_journalEnabled_replaysRestoredTask() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 0 | Task 1\nT | 1 | Task 2\nT | 0 | Task 3\n");
+        storage.enableJournal(100);
+        TaskList tasks = storage.load();
+
+        Task removed = tasks.remove(1);
+        storage.recordDelete(tasks, 1);
+        int index = tasks.restore(removed);
+        storage.recordInsert(tasks, index, removed);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(3, loaded.size());
+        assertEquals("Task 2", loaded.get(1).getDescription());
+        assertTrue(loaded.get(1).isDone());
+    }
+
+    @Test
+    public void load_journalWithInvalidRecords_skipsInvalidRecords() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 0 | Task 1\n");
+        Files.writeString(Paths.get(TEST_JOURNAL_PATH), "garbage\nMARK | abc\nDELETE | 5\nMARK | 0\n");
+
+        TaskList loaded = storage.load();
+        assertEquals(1, loaded.size());
+        assertTrue(loaded.get(0).isDone());
+    }
+
+    @Test
+    public void recordMark_thresholdReached_compactsIntoSnapshot() throws Exception {
+        storage.enableJournal(2);
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Task 1");
+        tasks.add(todo);
+
+        storage.recordAdd(tasks, todo);
+        assertTrue(Files.exists(Paths.get(TEST_JOURNAL_PATH)));
+
+        tasks.markAsDone(0);
+        storage.recordMark(tasks, 0);
+
+        assertFalse(Files.exists(Paths.get(TEST_JOURNAL_PATH)));
+        assertTrue(Files.readString(Paths.get(TEST_FILE_PATH)).contains("T | 1 | Task 1"));
+    }
+
+    @Test
+    public void recordAdd_journalEnabled_tagsRecordWithNextGeneration() throws Exception {
+        storage.enableJournal(100);
+        TaskList tasks = new TaskList();
+        storage.save(tasks);
+        Todo todo = new Todo("Buy groceries");
+        tasks.add(todo);
+
+        storage.recordAdd(tasks, todo);
+
+        assertEquals(List.of("2 | ADD | T | 0 | Buy groceries | #1"),
+                Files.readAllLines(Paths.get(TEST_JOURNAL_PATH)));
+    }
+
+    @Test
+    public void load_legacySnapshotAndJournal_replaysUntaggedRecords() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 0 | Task 1\n");
+        Files.writeString(Paths.get(TEST_JOURNAL_PATH), "ADD | T | 0 | Task 2\nMARK | 0\n");
+
+        TaskList loaded = storage.load();
+
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.get(0).isDone());
+        assertEquals("Task 2", loaded.get(1).getDescription());
+    }
+
+    @Test
+    public void load_recordsAtOrBelowSnapshotGeneration_areSkipped() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "GENERATION | 3\nT | 0 | Task 1\n");
+        Files.writeString(Paths.get(TEST_JOURNAL_PATH),
+                "3 | ADD | T | 0 | Already saved\nADD | T | 0 | Legacy\n4 | ADD | T | 0 | Task 2\n");
+
+        TaskList loaded = storage.load();
+
+        assertEquals(2, loaded.size());
+        assertEquals("Task 2", loaded.get(1).getDescription());
+    }
+
+    // ==================== Async Save Tests ====================
+
+    @Test
+    public void save_asyncMode_writesAfterFlush() throws Exception {
+        storage.enableAsyncSave(10_000);
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Buy groceries"));
+
+        storage.save(tasks);
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH)));
+
+        storage.flush();
+        assertTrue(Files.readString(Paths.get(TEST_FILE_PATH)).contains("T | 0 | Buy groceries"));
+    }
+
+    @Test
+    public void save_asyncModeBurst_writesLatestState() throws Exception {
+        storage.enableAsyncSave(10_000);
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= 50; i++) {
+            tasks.add(new Todo("Task " + i));
+            storage.save(tasks);
+        }
+        storage.flush();
+
+        assertEquals(50, new Storage(TEST_FILE_PATH).load().size());
+    }
+
+    @Test
+    public void record_asyncJournalMode_keepsRecordsAfterCompaction() throws Exception {
+        storage.enableJournal(2);
+        storage.enableAsyncSave(10_000);
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= 5; i++) {
+            Todo todo = new Todo("Task " + i);
+            tasks.add(todo);
+            storage.recordAdd(tasks, todo);
+        }
+        tasks.markAsDone(4);
+        storage.recordMark(tasks, 4);
+        storage.flush();
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(5, loaded.size());
+        assertTrue(loaded.get(4).isDone());
+    }
+
+    @Test
+    public void flush_syncMode_doesNothing() throws Exception {
+        storage.flush();
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH)));
+    }
+
+    // ==================== Deferred Write Tests ====================
+
+    @Test
+    public void save_deferredWrites_writesNothingUntilCheckpoint() throws Exception {
+        storage.deferWrites();
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Buy groceries");
+        tasks.add(todo);
+
+        storage.recordAdd(tasks, todo);
+        storage.save(tasks);
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH)));
+
+        storage.checkpoint(tasks);
+        assertEquals(1, new Storage(TEST_FILE_PATH).load().size());
+    }
+
+    @Test
+    public void record_deferredJournalMode_writesNoJournal() throws Exception {
+        storage.enableJournal(1000);
+        storage.deferWrites();
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Buy groceries");
+        tasks.add(todo);
+
+        storage.recordAdd(tasks, todo);
+        storage.checkpoint(tasks);
+
+        assertTrue(Files.exists(Paths.get(TEST_FILE_PATH)));
+        assertFalse(Files.exists(Paths.get(TEST_JOURNAL_PATH)));
+    }
+
+    @Test
+    public void checkpoint_noChanges_writesNothing() throws Exception {
+        storage.deferWrites();
+        storage.checkpoint(new TaskList());
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH)));
+    }
+
+    // ==================== Durability Tests ====================
+
+    @Test
+    public void save_leavesNoTemporaryFile() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Buy groceries"));
+        storage.save(tasks);
+
+        assertTrue(Files.exists(Paths.get(TEST_FILE_PATH)));
+        assertFalse(Files.exists(Paths.get(TEST_FILE_PATH + ".tmp")));
+    }
+
+    @Test
+    public void save_existingFile_replacesContents() throws Exception {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 0 | Old task\n");
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("New task"));
+        storage.save(tasks);
+
+        String content = Files.readString(Paths.get(TEST_FILE_PATH));
+        assertFalse(content.contains("Old task"));
+        assertTrue(content.contains("New task"));
+    }
+
+    @Test
+    public void load_staleJournalAfterTextCompaction_givesSameTasks() throws Exception {
+        assertStaleJournalIgnored(SnapshotFormat.TEXT);
+    }
+
+    @Test
+    public void load_staleJournalAfterBinaryCompaction_givesSameTasks() throws Exception {
+        assertStaleJournalIgnored(SnapshotFormat.BINARY);
+    }
+
+    /**
+     * Simulates a crash during compaction after the new snapshot was renamed into place but before
+     * the journal was cleared, and checks that loading gives the tasks that were saved.
+     *
+     * @param format the snapshot format to compact into
+     */
+    private void assertStaleJournalIgnored(SnapshotFormat format) throws Exception {
+        storage.setSnapshotFormat(format);
+        storage.enableJournal(100);
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Task 1"));
+        storage.save(tasks);
+        Todo second = new Todo("Task 2");
+        tasks.add(second);
+        storage.recordAdd(tasks, second);
+        tasks.markAsDone(1);
+        storage.recordMark(tasks, 1);
+        Task removed = tasks.remove(0);
+        storage.recordDelete(tasks, 0);
+        storage.recordInsert(tasks, tasks.restore(removed), removed);
+        Todo third = new Todo("Task 3");
+        tasks.add(third);
+        storage.recordAdd(tasks, third);
+        byte[] journal = Files.readAllBytes(Paths.get(TEST_JOURNAL_PATH));
+
+        storage.save(tasks);
+        Files.write(Paths.get(TEST_JOURNAL_PATH), journal);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(tasks.size(), loaded.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toString(), loaded.get(i).toString());
+        }
+    }
+
+    @Test
+    public void save_eachPolicy_roundTripsAndRecordsStats() throws Exception {
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            storage.setDurabilityPolicy(policy);
+            TaskList tasks = new TaskList();
+            tasks.add(new Todo("Task under " + policy));
+            storage.save(tasks);
+
+            assertEquals("Task under " + policy, storage.load().get(0).getDescription());
+            assertEquals(1, storage.getWriteStats(policy).getSnapshotCount());
+        }
+    }
+
+    @Test
+    public void recordAdd_journalMode_recordsJournalStats() throws Exception {
+        storage.enableJournal(100);
+        storage.setDurabilityPolicy(DurabilityPolicy.ALWAYS);
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Buy groceries");
+        tasks.add(todo);
+        storage.recordAdd(tasks, todo);
+        storage.flush();
+
+        WriteStats stats = storage.getWriteStats(DurabilityPolicy.ALWAYS);
+        assertEquals(1, stats.getJournalCount());
+        assertEquals(0, stats.getSnapshotCount());
+        assertTrue(stats.getJournalMaxMicros() >= stats.getJournalAverageMicros());
+    }
+
+    // ==================== Binary Snapshot Tests ====================
+
+    @Test
+    public void saveAndLoad_binaryFormat_roundTrip() throws Exception {
+        TaskList original = new TaskList();
+        original.add(new Todo("Caf\u00e9 run"));
+        original.add(new Deadline("Finish report", java.time.LocalDateTime.of(2025, 12, 31, 23, 59)));
+        original.add(new Event("Team meeting",
+                java.time.LocalDateTime.of(2025, 6, 15, 10, 0),
+                java.time.LocalDateTime.of(2025, 6, 15, 12, 0)));
+        original.markAsDone(2);
+
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        storage.save(original);
+        assertTrue(BinarySnapshot.isBinary(Paths.get(TEST_FILE_PATH)));
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(3, loaded.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(original.get(i).toString(), loaded.get(i).toString());
+        }
+    }
+
+    @Test
+    public void load_binarySnapshotWithJournal_replaysJournal() throws Exception {
+        TaskList original = new TaskList();
+        original.add(new Todo("Task 1"));
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        storage.save(original);
+
+        storage.enableJournal(100);
+        Todo todo = new Todo("Task 2");
+        original.add(todo);
+        storage.recordAdd(original, todo);
+
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+        assertEquals(2, loaded.size());
+        assertEquals("Task 2", loaded.get(1).getDescription());
+    }
+
+    @Test
+    public void load_binarySnapshot_skipsRecordsItAlreadyIncludes() throws Exception {
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        TaskList original = new TaskList();
+        original.add(new Todo("Task 1"));
+        storage.save(original);
+        storage.save(original);
+        Files.writeString(Paths.get(TEST_JOURNAL_PATH), "2 | DELETE | 0\n3 | ADD | T | 0 | Task 2\n");
+
+        assertEquals(2, BinarySnapshot.readGeneration(Paths.get(TEST_FILE_PATH)));
+        TaskList loaded = new Storage(TEST_FILE_PATH).load();
+
+        assertEquals(2, loaded.size());
+        assertEquals("Task 1", loaded.get(0).getDescription());
+        assertEquals("Task 2", loaded.get(1).getDescription());
+    }
+
+    @Test
+    public void convert_textToBinaryAndBack_preservesTasks() throws Exception {
+        String binaryPath = "data/test_leo_converted.bin";
+        String textPath = "data/test_leo_converted.txt";
+        Files.writeString(Paths.get(TEST_FILE_PATH), "T | 1 | Task 1 | #3\nD | 0 | Report | 2025-12-31T23:59 | #7\n");
+
+        try {
+            assertEquals(2, SnapshotConverter.convert(TEST_FILE_PATH, binaryPath, SnapshotFormat.BINARY));
+            assertTrue(BinarySnapshot.isBinary(Paths.get(binaryPath)));
+            assertEquals(2, SnapshotConverter.convert(binaryPath, textPath, SnapshotFormat.TEXT));
+            List<String> converted = Files.readAllLines(Paths.get(textPath));
+            assertEquals("GENERATION | 1 | 8", converted.get(0));
+            assertEquals(Files.readAllLines(Paths.get(TEST_FILE_PATH)), converted.subList(1, converted.size()));
+        } finally {
+            Files.deleteIfExists(Paths.get(binaryPath));
+            Files.deleteIfExists(Paths.get(textPath));
+        }
+    }
+
+    // ==================== Import Tests ====================
+
+    @Test
+    public void import_multipleChunks_keepsFileOrderAndReportsProgress() throws Exception {
+        ArrayList<String> lines = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            lines.add("T | " + (i % 2) + " | Task " + i);
+        }
+        Files.write(Paths.get(TEST_FILE_PATH), lines);
+        ArrayList<Integer> progress = new ArrayList<>();
+
+        TaskImporter importer = new TaskImporter(Paths.get(TEST_FILE_PATH), 10);
+        ArrayList<Task> imported = importer.read(progress::add);
+
+        assertEquals(25, imported.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals("Task " + (i + 1), imported.get(i).getDescription());
+            assertEquals((i + 1) % 2 == 1, imported.get(i).isDone());
+        }
+        assertEquals(List.of(10, 20), progress);
+        assertEquals(25, importer.getLineCount());
+        assertEquals(0, importer.getInvalidLineCount());
+    }
+
+    @Test
+    public void import_invalidLines_areSkippedAndCounted() throws Exception {
+        Files.write(Paths.get(TEST_FILE_PATH), List.of("T | 0 | Valid", "", "D | 0 | Bad date | someday",
+                "E | 0 | Missing end | 2025-06-15T10:00", "T | 0 |  ", "X | 0 | Unknown type"));
+
+        TaskImporter importer = new TaskImporter(Paths.get(TEST_FILE_PATH));
+        ArrayList<Task> imported = importer.read(lineCount -> { });
+
+        assertEquals(1, imported.size());
+        assertEquals("Valid", imported.get(0).getDescription());
+        assertEquals(6, importer.getLineCount());
+        assertEquals(4, importer.getInvalidLineCount());
+    }
+
+    @Test
+    public void import_emptyDescription_isCountedAsInvalid() throws Exception {
+        Files.write(Paths.get(TEST_FILE_PATH), List.of("T | 0 |  | #4", "D | 1 | | 2025-12-31T23:59",
+                "T | 0 | Valid"));
+
+        TaskImporter importer = new TaskImporter(Paths.get(TEST_FILE_PATH));
+        ArrayList<Task> imported = importer.read(lineCount -> { });
+
+        assertEquals(1, imported.size());
+        assertEquals(2, importer.getInvalidLineCount());
+    }
+
+    @Test
+    public void import_csvFile_parsesSameFieldsAsStoredLines() throws Exception {
+        Path csvPath = Paths.get("data/test_leo_import.csv");
+        Files.write(csvPath, List.of("type,done,description,from,to",
+                "D,1,\"Report, final\",2025-12-31T23:59",
+                "E,0,Meeting,2025-06-15T10:00,2025-06-15T11:00"));
+
+        try {
+            TaskImporter importer = new TaskImporter(csvPath);
+            ArrayList<Task> imported = importer.read(lineCount -> { });
+
+            assertEquals(2, imported.size());
+            assertTrue(imported.get(0) instanceof Deadline);
+            assertEquals("Report, final", imported.get(0).getDescription());
+            assertTrue(imported.get(0).isDone());
+            assertTrue(imported.get(1) instanceof Event);
+            assertEquals(1, importer.getInvalidLineCount());
+        } finally {
+            Files.deleteIfExists(csvPath);
+        }
+    }
+
+    @Test
+    public void import_missingFile_throwsLeoException() {
+        TaskImporter importer = new TaskImporter(Paths.get("data/no_such_file.txt"));
+
+        LeoException e = assertThrows(LeoException.class, () -> importer.read(lineCount -> { }));
+        assertTrue(e.getMessage().contains("Cannot find file to import"));
+    }
 }
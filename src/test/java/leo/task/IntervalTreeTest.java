@@ -0,0 +1,128 @@
+package leo.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the IntervalTree class.
+ * Tests cover overlap queries, removal, and agreement with a brute-force scan.
+ */
+public class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private IntervalTree tree;
+    private long nextId;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new IntervalTree();
+        nextId = 1;
+    }
+
+    /**
+     * Creates an event spanning the given hours after the base time, with the next id.
+     */
+    private Event event(int fromHour, int toHour) {
+        Event event = new Event("Event " + nextId, BASE.plusHours(fromHour), BASE.plusHours(toHour));
+        event.setId(nextId++);
+        return event;
+    }
+
+    // ==================== FindOverlapping Tests ====================
+
+    @Test
+    public void findOverlapping_emptyTree_returnsEmpty() {
+        assertTrue(tree.findOverlapping(BASE, BASE.plusHours(1)).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_mixedEvents_returnsOverlappingInStartOrder() {
+        Event late = event(10, 12);
+        Event longEvent = event(0, 20);
+        Event early = event(1, 2);
+        Event touching = event(5, 6);
+        tree.add(late);
+        tree.add(longEvent);
+        tree.add(early);
+        tree.add(touching);
+
+        assertEquals(List.of(longEvent, touching), tree.findOverlapping(BASE.plusHours(6), BASE.plusHours(8)));
+        assertEquals(List.of(longEvent, early, touching, late), tree.findOverlapping(BASE, BASE.plusHours(30)));
+    }
+
+    @Test
+    public void findOverlapping_sameStart_orderedById() {
+        Event first = event(3, 4);
+        Event second = event(3, 5);
+        tree.add(second);
+        tree.add(first);
+
+        assertEquals(List.of(first, second), tree.findOverlapping(BASE.plusHours(3), BASE.plusHours(3)));
+    }
+
+    // ==================== Remove Tests ====================
+
+    @Test
+    public void remove_event_noLongerFound() {
+        Event kept = event(0, 5);
+        Event removed = event(1, 3);
+        tree.add(kept);
+        tree.add(removed);
+
+        tree.remove(removed);
+
+        assertEquals(1, tree.size());
+        assertEquals(List.of(kept), tree.findOverlapping(BASE, BASE.plusHours(10)));
+    }
+
+    @Test
+    public void remove_missingEvent_leavesTreeUnchanged() {
+        tree.add(event(0, 5));
+        tree.remove(event(0, 5));
+
+        assertEquals(1, tree.size());
+    }
+
+    // ==================== Randomized Tests ====================
+
+    @Test
+    public void findOverlapping_randomOperations_matchesBruteForce() {
+        Random random = new Random(42);
+        List<Event> live = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                Event removed = live.remove(random.nextInt(live.size()));
+                tree.remove(removed);
+            } else {
+                int from = random.nextInt(1000);
+                Event added = event(from, from + 1 + random.nextInt(50));
+                live.add(added);
+                tree.add(added);
+            }
+
+            int queryFrom = random.nextInt(1000);
+            LocalDateTime from = BASE.plusHours(queryFrom);
+            LocalDateTime to = BASE.plusHours(queryFrom + random.nextInt(30));
+            List<Event> expected = new ArrayList<>();
+            for (Event e : live) {
+                if (!e.getFrom().isAfter(to) && !e.getTo().isBefore(from)) {
+                    expected.add(e);
+                }
+            }
+            expected.sort(Comparator.comparing(Event::getFrom).thenComparingLong(Event::getId));
+
+            assertEquals(expected, tree.findOverlapping(from, to));
+            assertEquals(live.size(), tree.size());
+        }
+    }
+}
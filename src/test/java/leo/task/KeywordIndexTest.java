@@ -0,0 +1,133 @@
+package leo.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the KeywordIndex class.
+ * Tests cover candidate lookup, stale entries left by removals and updates, and rebuilding.
+ */
+public class KeywordIndexTest {
+
+    private KeywordIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new KeywordIndex();
+    }
+
+    // ==================== Candidate Tests ====================
+
+    @Test
+    public void getCandidates_shortKeyword_returnsNull() {
+        index.add(new Todo("Read book"));
+
+        assertNull(index.getCandidates("bo"));
+    }
+
+    @Test
+    public void getCandidates_unknownTrigram_returnsEmptyList() {
+        index.add(new Todo("Read book"));
+
+        assertTrue(index.getCandidates("milk").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_matchingTasks_includesEveryMatchOnce() {
+        Todo book = new Todo("Read book about books");
+        Todo report = new Todo("Write report");
+        Todo notebook = new Todo("Buy NOTEBOOK");
+        index.add(book);
+        index.add(report);
+        index.add(notebook);
+
+        List<Task> candidates = index.getCandidates("book");
+
+        assertEquals(List.of(book, notebook), candidates);
+    }
+
+    @Test
+    public void getCandidates_sharedTrigramsOnly_returnsCandidateForCallerToCheck() {
+        Todo task = new Todo("abc xbcd");
+        index.add(task);
+
+        assertEquals(List.of(task), index.getCandidates("abcd"));
+    }
+
+    // ==================== Stale Entry Tests ====================
+
+    @Test
+    public void remove_keepsEntryUntilRebuild() {
+        Todo first = new Todo("Buy milk");
+        Todo second = new Todo("Buy bread");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+        assertEquals(List.of(first, second), index.getCandidates("buy"));
+
+        index.rebuild(List.of(second));
+        assertEquals(List.of(second), index.getCandidates("buy"));
+    }
+
+    @Test
+    public void update_indexesNewDescription() {
+        Todo task = new Todo("Buy milk");
+        index.add(task);
+
+        task.setDescription("Read book");
+        index.update(task);
+
+        assertEquals(List.of(task), index.getCandidates("book"));
+    }
+
+    @Test
+    public void needsRebuild_onceStaleEntriesOutnumberLiveTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Todo task = new Todo("Task " + i);
+            tasks.add(task);
+            index.add(task);
+        }
+
+        index.remove(tasks.remove(3));
+        index.remove(tasks.remove(2));
+        assertFalse(index.needsRebuild(tasks.size()));
+
+        index.remove(tasks.remove(1));
+        assertTrue(index.needsRebuild(tasks.size()));
+
+        index.rebuild(tasks);
+        assertFalse(index.needsRebuild(tasks.size()));
+    }
+
+    @Test
+    public void getCandidates_randomTasks_containsEveryBruteForceMatch() {
+        Random random = new Random(7);
+        String[] words = {"read", "book", "report", "meeting", "milk", "review", "code"};
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Todo task = new Todo(words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]);
+            tasks.add(task);
+            index.add(task);
+        }
+
+        for (String word : words) {
+            List<Task> candidates = index.getCandidates(word);
+            for (Task task : tasks) {
+                if (task.getDescription().contains(word)) {
+                    assertTrue(candidates.contains(task), word + " missing " + task);
+                }
+            }
+        }
+    }
+}
@@ -2,10 +2,15 @@ package leo.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -222,6 +227,30 @@ public class TaskListTest {
         assertFalse(taskList.get(0).isDone());
     }
 
+    @Test
+    public void removeAll_selectedPositions_compactsListAndIndexes() throws LeoException {
+        for (int i = 1; i <= 6; i++) {
+            taskList.add(new Todo("Task " + i));
+        }
+        taskList.markAsDone(0);
+        BitSet positions = new BitSet();
+        positions.set(0);
+        positions.set(2, 4);
+
+        ArrayList<Task> removed = taskList.removeAll(positions);
+
+        assertEquals(3, removed.size());
+        assertEquals("Task 1", removed.get(0).getDescription());
+        assertEquals(3, taskList.size());
+        assertEquals("Task 2", taskList.get(0).getDescription());
+        assertEquals("Task 5", taskList.get(1).getDescription());
+        assertEquals(1, taskList.indexOf(5));
+        assertNull(taskList.getById(1));
+        assertEquals(0, taskList.getDoneCount());
+        assertTrue(taskList.findTasks("Task 3").isEmpty());
+        taskList.add(new Todo("Task 3"));
+    }
+
     // ==================== Size Method Tests ====================
 
     @Test
@@ -406,6 +435,159 @@ public class TaskListTest {
         assertEquals(2, taskList.size());
     }
 
+    @Test
+    public void add_duplicateAfterRemoval_allowed() throws LeoException {
+        taskList.add(new Todo("Buy groceries"));
+        taskList.remove(0);
+
+        taskList.add(new Todo("buy groceries"));
+        assertEquals(1, taskList.size());
+    }
+
+    @Test
+    public void add_duplicateOfConstructorTask_throwsLeoException() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("Buy groceries"));
+        TaskList list = new TaskList(tasks);
+
+        assertThrows(LeoException.class, () -> {
+            list.add(new Todo("Buy Groceries"));
+        });
+    }
+
+    @Test
+    public void add_afterDescriptionChanged_usesNewDescription() throws LeoException {
+        Todo todo = new Todo("Buy groceries");
+        taskList.add(todo);
+        todo.setDescription("Read book");
+
+        taskList.add(new Todo("Buy groceries"));
+        assertThrows(LeoException.class, () -> {
+            taskList.add(new Todo("read book"));
+        });
+    }
+
+    @Test
+    public void add_duplicateNonAsciiDescription_throwsLeoException() throws LeoException {
+        taskList.add(new Todo("οδος"));
+
+        assertThrows(LeoException.class, () -> {
+            taskList.add(new Todo("ΟΔΟΣ"));
+        });
+    }
+
+    @Test
+    public void addAllUnique_skipsExistingAndRepeatedTasks() throws LeoException {
+        taskList.add(new Todo("Buy groceries"));
+        List<Task> batch = List.of(new Todo("BUY GROCERIES"), new Todo("Read book"),
+                new Todo("read book"), new Deadline("Read book", LocalDateTime.of(2025, 12, 31, 23, 59)));
+
+        ArrayList<Task> added = taskList.addAllUnique(batch);
+
+        assertEquals(2, added.size());
+        assertSame(batch.get(1), added.get(0));
+        assertSame(batch.get(3), added.get(1));
+        assertEquals(3, taskList.size());
+        assertSame(added.get(1), taskList.get(2));
+        assertTrue(added.get(0).getId() < added.get(1).getId());
+    }
+
+    @Test
+    public void countDuplicates_countsOnlyTasksAlreadyInList() throws LeoException {
+        taskList.add(new Todo("Buy groceries"));
+        List<Task> batch = List.of(new Todo("buy groceries"), new Todo("Read book"), new Todo("read book"));
+
+        assertEquals(1, taskList.countDuplicates(batch));
+    }
+
+    // ==================== Task Id Tests ====================
+
+    @Test
+    public void add_assignsIncreasingIdsStartingAtOne() throws LeoException {
+        Todo first = new Todo("First");
+        Todo second = new Todo("Second");
+        taskList.add(first);
+        taskList.add(second);
+
+        assertEquals(1, first.getId());
+        assertEquals(2, second.getId());
+    }
+
+    @Test
+    public void remove_keepsIdsOfRemainingTasks() throws LeoException {
+        taskList.add(new Todo("Task 1"));
+        taskList.add(new Todo("Task 2"));
+        taskList.add(new Todo("Task 3"));
+
+        taskList.remove(0);
+
+        assertEquals(2, taskList.get(0).getId());
+        assertEquals(3, taskList.get(1).getId());
+    }
+
+    @Test
+    public void add_afterRemove_doesNotReuseId() throws LeoException {
+        taskList.add(new Todo("Task 1"));
+        taskList.add(new Todo("Task 2"));
+        taskList.remove(1);
+        Todo added = new Todo("Task 3");
+        taskList.add(added);
+
+        assertEquals(3, added.getId());
+    }
+
+    @Test
+    public void getById_findsTaskAndNullAfterRemoval() throws LeoException {
+        Todo todo = new Todo("Task 1");
+        taskList.add(todo);
+
+        assertSame(todo, taskList.getById(todo.getId()));
+        taskList.remove(0);
+        assertNull(taskList.getById(todo.getId()));
+    }
+
+    @Test
+    public void indexOf_afterRemovals_returnsCurrentPosition() throws LeoException {
+        for (int i = 1; i <= 10; i++) {
+            taskList.add(new Todo("Task " + i));
+        }
+        taskList.remove(2);
+        taskList.remove(5);
+
+        for (int i = 0; i < taskList.size(); i++) {
+            assertEquals(i, taskList.indexOf(taskList.get(i).getId()));
+        }
+        assertEquals(-1, taskList.indexOf(3));
+        assertEquals(-1, taskList.indexOf(99));
+    }
+
+    @Test
+    public void constructor_assignsIdsInListOrder() {
+        ArrayList<Task> initial = new ArrayList<>();
+        initial.add(new Todo("Task 1"));
+        initial.add(new Todo("Task 2"));
+        TaskList list = new TaskList(initial);
+
+        assertEquals(1, list.get(0).getId());
+        assertEquals(2, list.get(1).getId());
+        assertEquals(1, list.indexOf(2));
+    }
+
+    @Test
+    public void restore_removedTask_returnsToOriginalIndex() throws LeoException {
+        taskList.add(new Todo("Task 1"));
+        taskList.add(new Todo("Task 2"));
+        taskList.add(new Todo("Task 3"));
+        Task removed = taskList.remove(1);
+
+        int index = taskList.restore(removed);
+
+        assertEquals(1, index);
+        assertSame(removed, taskList.get(1));
+        assertEquals(1, taskList.indexOf(2));
+        assertEquals(1, taskList.findTasks("Task 2").size());
+    }
+
     // ==================== GetDoneTasks Method Tests ====================
 
     @Test
@@ -477,6 +659,53 @@ public class TaskListTest {
         assertTrue(doneTasks.get(1) instanceof Deadline);
     }
 
+    @Test
+    public void getDoneTasks_afterMarkUnmarkRemoveAndRestore_staysInSync() throws LeoException {
+        Todo first = new Todo("Task 1");
+        Todo second = new Todo("Task 2");
+        Todo third = new Todo("Task 3");
+        taskList.add(first);
+        taskList.add(second);
+        taskList.add(third);
+
+        taskList.markAsDone(0);
+        third.markAsDone();
+        assertEquals(List.of(first, third), taskList.getDoneTasks());
+        assertEquals(List.of(second), taskList.getNotDoneTasks());
+
+        taskList.markAsNotDone(0);
+        Task removed = taskList.remove(2);
+        assertEquals(List.of(), taskList.getDoneTasks());
+        assertEquals(0, taskList.getDoneCount());
+
+        taskList.restore(removed);
+        assertEquals(List.of(third), taskList.getDoneTasks());
+        assertEquals(List.of(first, second), taskList.getNotDoneTasks());
+    }
+
+    @Test
+    public void getDoneCount_markedTwice_countsOnce() throws LeoException {
+        taskList.add(new Todo("Task 1"));
+        taskList.add(new Todo("Task 2"));
+
+        taskList.markAsDone(1);
+        taskList.markAsDone(1);
+
+        assertEquals(1, taskList.getDoneCount());
+        assertEquals(1, taskList.getNotDoneCount());
+    }
+
+    @Test
+    public void getDoneCount_removedTaskMarked_doesNotChangeCount() throws LeoException {
+        taskList.add(new Todo("Task 1"));
+        Task removed = taskList.remove(0);
+
+        removed.markAsDone();
+
+        assertEquals(0, taskList.getDoneCount());
+        assertTrue(taskList.getDoneTasks().isEmpty());
+    }
+
     // ==================== GetNotDoneTasks Method Tests ====================
 
     @Test
@@ -605,6 +834,133 @@ public class TaskListTest {
         assertTrue(found.get(0) instanceof Event);
     }
 
+    @Test
+    public void findTasks_afterRemoval_excludesRemovedTask() throws LeoException {
+        taskList.add(new Todo("Buy groceries"));
+        taskList.add(new Todo("Buy milk"));
+        taskList.remove(0);
+
+        ArrayList<Task> found = taskList.findTasks("buy");
+        assertEquals(1, found.size());
+        assertEquals("Buy milk", found.get(0).getDescription());
+    }
+
+    @Test
+    public void findTasks_afterDescriptionChanged_matchesNewDescription() throws LeoException {
+        Todo todo = new Todo("Buy groceries");
+        taskList.add(todo);
+        todo.setDescription("Read book");
+
+        assertEquals(0, taskList.findTasks("groceries").size());
+        assertEquals(1, taskList.findTasks("book").size());
+    }
+
+    @Test
+    public void findTasks_indexedKeyword_preservesListOrder() throws LeoException {
+        ArrayList<Task> initial = new ArrayList<>();
+        initial.add(new Todo("Report draft"));
+        initial.add(new Todo("Unrelated"));
+        initial.add(new Todo("Final REPORT"));
+        TaskList list = new TaskList(initial);
+        list.add(new Todo("Reporting tools"));
+
+        ArrayList<Task> found = list.findTasks("report");
+        assertEquals(3, found.size());
+        assertEquals("Report draft", found.get(0).getDescription());
+        assertEquals("Final REPORT", found.get(1).getDescription());
+        assertEquals("Reporting tools", found.get(2).getDescription());
+    }
+
+    @Test
+    public void findTasks_addedAfterFirstFind_areFound() throws LeoException {
+        taskList.add(new Todo("Read book"));
+        assertEquals(1, taskList.findTasks("book").size());
+
+        taskList.add(new Todo("Return book"));
+
+        assertEquals(2, taskList.findTasks("book").size());
+    }
+
+    @Test
+    public void findTasks_afterManyRemovals_matchesRemainingTasksOnly() throws LeoException {
+        for (int i = 0; i < 20; i++) {
+            taskList.add(new Todo("Report " + i));
+        }
+        assertEquals(20, taskList.findTasks("report").size());
+
+        for (int i = 0; i < 15; i++) {
+            taskList.remove(0);
+        }
+
+        ArrayList<Task> found = taskList.findTasks("report");
+        assertEquals(5, found.size());
+        assertEquals("Report 15", found.get(0).getDescription());
+        assertEquals("Report 19", found.get(4).getDescription());
+    }
+
+    // ==================== Time Index Tests ====================
+
+    @Test
+    public void getTasksBetween_mixedTasks_returnsTasksInPeriodInTimeOrder() throws LeoException {
+        Deadline late = new Deadline("Late", LocalDateTime.of(2025, 12, 6, 12, 0));
+        Deadline early = new Deadline("Early", LocalDateTime.of(2025, 12, 1, 8, 0));
+        Event overlapping = new Event("Trip", LocalDateTime.of(2025, 11, 28, 0, 0),
+                LocalDateTime.of(2025, 12, 2, 0, 0));
+        Event before = new Event("Past", LocalDateTime.of(2025, 11, 20, 0, 0),
+                LocalDateTime.of(2025, 11, 21, 0, 0));
+        taskList.add(late);
+        taskList.add(new Todo("No time"));
+        taskList.add(early);
+        taskList.add(overlapping);
+        taskList.add(before);
+
+        ArrayList<Task> result = taskList.getTasksBetween(LocalDateTime.of(2025, 12, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 7, 0, 0));
+
+        assertEquals(List.of(overlapping, early, late), result);
+    }
+
+    @Test
+    public void getTasksBetween_boundaries_areInclusive() throws LeoException {
+        LocalDateTime time = LocalDateTime.of(2025, 12, 1, 12, 0);
+        Deadline deadline = new Deadline("Due", time);
+        Event event = new Event("Ends", time.minusHours(2), time);
+        taskList.add(deadline);
+        taskList.add(event);
+
+        assertEquals(List.of(event, deadline), taskList.getTasksBetween(time, time));
+    }
+
+    @Test
+    public void getTasksBetween_afterAddRemoveAndRestore_staysInSync() throws LeoException {
+        LocalDateTime time = LocalDateTime.of(2025, 12, 1, 12, 0);
+        taskList.getTasksBetween(time, time);
+        Deadline first = new Deadline("First", time);
+        Deadline second = new Deadline("Second", time);
+        taskList.add(first);
+        taskList.add(second);
+
+        Task removed = taskList.remove(0);
+        assertEquals(List.of(second), taskList.getTasksBetween(time, time));
+
+        taskList.restore(removed);
+        assertEquals(List.of(first, second), taskList.getTasksBetween(time, time));
+    }
+
+    @Test
+    public void getConflictingEvents_overlappingAndTouchingEvents_returnsOnlyOverlapping() throws LeoException {
+        LocalDateTime nine = LocalDateTime.of(2025, 12, 1, 9, 0);
+        Event meeting = new Event("Meeting", nine, nine.plusHours(2));
+        Event overlapping = new Event("Call", nine.plusHours(1), nine.plusHours(2));
+        Event touching = new Event("Lunch", nine.plusHours(2), nine.plusHours(3));
+        taskList.add(meeting);
+        taskList.add(overlapping);
+        taskList.add(touching);
+
+        assertEquals(List.of(overlapping), taskList.getConflictingEvents(meeting));
+        assertEquals(List.of(meeting, overlapping), taskList.getEventsWithConflicts());
+    }
+
     // ==================== Stream Methods Independence Tests ====================
 
     @Test
@@ -0,0 +1,192 @@
+package leo.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the DialogLog class.
+ * Tests cover evicting entries over the limit, restoring them in order, and holding restored entries.
+ */
+public class DialogLogTest {
+
+    /**
+     * Returns a bot message entry with the given text.
+     */
+    private static DialogEntry entry(String text) {
+        return DialogEntry.message(DialogEntry.Kind.BOT, text);
+    }
+
+    // ==================== Eviction Tests ====================
+
+    @Test
+    public void show_underLimit_hasNoExcess() {
+        DialogLog log = new DialogLog(3, 10, 1000);
+        log.show(entry("a"));
+        log.show(entry("b"));
+        assertEquals(0, log.getExcessCount());
+    }
+
+    @Test
+    public void evictOldest_overLimit_evictsOldestFirst() {
+        DialogLog log = new DialogLog(2, 10, 1000);
+        log.show(entry("a"));
+        log.show(entry("b"));
+        log.show(entry("c"));
+
+        assertEquals(1, log.getExcessCount());
+        assertEquals("a", log.evictOldest().getText());
+        assertEquals(0, log.getExcessCount());
+        assertEquals(2, log.getShownCount());
+        assertEquals(1, log.getEvictedCount());
+    }
+
+    @Test
+    public void evictOldest_logFull_dropsOldestEvicted() {
+        DialogLog log = new DialogLog(1, 2, 1000);
+        for (String text : new String[] {"a", "b", "c", "d"}) {
+            log.show(entry(text));
+        }
+        while (log.getExcessCount() > 0) {
+            log.evictOldest();
+        }
+
+        assertEquals(2, log.getEvictedCount());
+        List<DialogEntry> restored = log.restoreOlder(5);
+        assertEquals("b", restored.get(0).getText());
+        assertEquals("c", restored.get(1).getText());
+    }
+
+    @Test
+    public void evictOldest_overCharLimit_dropsOldestEvicted() {
+        DialogLog log = new DialogLog(1, 10, 6);
+        for (String text : new String[] {"aaa", "bbb", "cc", "d"}) {
+            log.show(entry(text));
+        }
+        while (log.getExcessCount() > 0) {
+            log.evictOldest();
+        }
+
+        assertEquals(2, log.getEvictedCount());
+        List<DialogEntry> restored = log.restoreOlder(5);
+        assertEquals("bbb", restored.get(0).getText());
+        assertEquals("cc", restored.get(1).getText());
+    }
+
+    @Test
+    public void evictOldest_taskListOverCharLimit_isDropped() {
+        DialogLog log = new DialogLog(1, 10, 6);
+        log.show(entry("a"));
+        log.show(DialogEntry.taskList(List.of("1. one", "2. two")));
+        log.show(entry("b"));
+
+        log.evictOldest();
+        log.evictOldest();
+
+        assertEquals(1, log.getEvictedCount());
+        assertEquals("a", log.restoreOlder(5).get(0).getText());
+    }
+
+    @Test
+    public void restoreOlder_thenEvictAgain_countsCharsOnce() {
+        DialogLog log = new DialogLog(1, 10, 6);
+        for (String text : new String[] {"aaa", "bbb", "c"}) {
+            log.show(entry(text));
+        }
+        log.evictOldest();
+        log.evictOldest();
+
+        log.restoreOlder(2);
+        log.releaseRestored();
+        while (log.getExcessCount() > 0) {
+            log.evictOldest();
+        }
+
+        assertEquals(2, log.getEvictedCount());
+    }
+
+    @Test
+    public void setMaxShown_lowerLimit_increasesExcess() {
+        DialogLog log = new DialogLog(5, 10, 1000);
+        for (int i = 0; i < 4; i++) {
+            log.show(entry("m" + i));
+        }
+        log.setMaxShown(1);
+        assertEquals(3, log.getExcessCount());
+    }
+
+    // ==================== Restore Tests ====================
+
+    @Test
+    public void restoreOlder_partialBatch_returnsNewestEvictedInOrder() {
+        DialogLog log = new DialogLog(1, 10, 1000);
+        for (String text : new String[] {"a", "b", "c", "d"}) {
+            log.show(entry(text));
+        }
+        while (log.getExcessCount() > 0) {
+            log.evictOldest();
+        }
+
+        List<DialogEntry> restored = log.restoreOlder(2);
+        assertEquals(2, restored.size());
+        assertEquals("b", restored.get(0).getText());
+        assertEquals("c", restored.get(1).getText());
+        assertEquals(1, log.getEvictedCount());
+        assertEquals(3, log.getShownCount());
+    }
+
+    @Test
+    public void restoreOlder_thenEvict_evictsRestoredEntriesFirst() {
+        DialogLog log = new DialogLog(1, 10, 1000);
+        log.show(entry("a"));
+        log.show(entry("b"));
+        log.evictOldest();
+
+        log.restoreOlder(1);
+        assertEquals("a", log.evictOldest().getText());
+    }
+
+    @Test
+    public void restoreOlder_newEntriesShown_keepsRestoredEntriesUntilReleased() {
+        DialogLog log = new DialogLog(2, 10, 1000);
+        for (String text : new String[] {"a", "b", "c", "d"}) {
+            log.show(entry(text));
+        }
+        while (log.getExcessCount() > 0) {
+            log.evictOldest();
+        }
+
+        log.restoreOlder(2);
+        log.show(entry("e"));
+        assertTrue(log.isHoldingRestored());
+        assertEquals(0, log.getExcessCount());
+        assertEquals(5, log.getShownCount());
+
+        log.releaseRestored();
+        assertFalse(log.isHoldingRestored());
+        assertEquals(3, log.getExcessCount());
+        assertEquals("a", log.evictOldest().getText());
+    }
+
+    @Test
+    public void restoreOlder_nothingEvicted_doesNotHoldEntries() {
+        DialogLog log = new DialogLog(1, 10, 1000);
+        log.show(entry("a"));
+        log.restoreOlder(5);
+        log.show(entry("b"));
+
+        assertFalse(log.isHoldingRestored());
+        assertEquals(1, log.getExcessCount());
+    }
+
+    @Test
+    public void restoreOlder_nothingEvicted_returnsEmpty() {
+        DialogLog log = new DialogLog(3, 10, 1000);
+        log.show(entry("a"));
+        assertEquals(0, log.restoreOlder(10).size());
+    }
+}
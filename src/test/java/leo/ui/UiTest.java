@@ -0,0 +1,148 @@
+package leo.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import leo.storage.TaskImporter;
+import leo.task.Task;
+import leo.task.TaskList;
+import leo.task.Todo;
+
+/**
+ * Tests for the Ui class.
+ * Tests cover the printed text and when it reaches the output stream.
+ */
+public class UiTest {
+
+    private static final String LINE = "____________________________________________________________";
+    private static final String NL = System.lineSeparator();
+    private ByteArrayOutputStream bytes;
+    private Ui ui;
+
+    @BeforeEach
+    public void setUp() {
+        bytes = new ByteArrayOutputStream();
+        ui = new Ui(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns everything written to the output stream so far.
+     */
+    private String output() {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    // ==================== Output Tests ====================
+
+    @Test
+    public void printList_unbuffered_writesImmediately() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("Read book"));
+        tasks.add(new Todo("Buy milk"));
+
+        ui.printList(tasks);
+
+        assertEquals(LINE + NL + "Here are the tasks in your list:" + NL
+                + "1.[T][ ] Read book" + NL + "2.[T][ ] Buy milk" + NL + LINE + NL, output());
+    }
+
+    @Test
+    public void printList_tasksWithIds_showsIdAfterEachTask() throws Exception {
+        TaskList list = new TaskList();
+        list.add(new Todo("Read book"));
+        list.add(new Todo("Buy milk"));
+        list.remove(0);
+
+        ui.printList(list.getAll());
+
+        assertEquals(LINE + NL + "Here are the tasks in your list:" + NL
+                + "1.[T][ ] Buy milk (#2)" + NL + LINE + NL, output());
+    }
+
+    @Test
+    public void printError_multiLineMessage_printsEachLine() {
+        ui.printError("First\nSecond");
+        assertEquals(LINE + NL + "First" + NL + "Second" + NL + LINE + NL, output());
+    }
+
+    @Test
+    public void printImportResult_withSkippedLines_listsEachCount() {
+        ui.printImportResult("old.txt", 3, 2, 4, 1, 10);
+
+        assertEquals(LINE + NL + "Imported 3 tasks from old.txt." + NL
+                + "Skipped 2 tasks already in the list." + NL
+                + "Skipped 4 tasks repeated in the file." + NL
+                + "Skipped 1 lines that are not valid tasks." + NL
+                + "Now you have 10 tasks in the list." + NL + LINE + NL, output());
+    }
+
+    @Test
+    public void printImportResult_nothingSkipped_omitsSkippedCounts() {
+        ui.printImportResult("old.txt", 3, 0, 0, 0, 3);
+
+        assertEquals(LINE + NL + "Imported 3 tasks from old.txt." + NL
+                + "Now you have 3 tasks in the list." + NL + LINE + NL, output());
+    }
+
+    // ==================== Buffered Output Tests ====================
+
+    @Test
+    public void print_bufferedMode_writesOnlyOnFlush() {
+        ui.enableBufferedOutput();
+        ui.printGreeting();
+        ui.printGoodbye();
+        assertEquals("", output());
+
+        ui.flush();
+        assertEquals(LINE + NL + "Hello! I'm Leo" + NL + "What can I do for you?" + NL + LINE + NL
+                + LINE + NL + "Bye. Hope to see you again soon!" + NL + LINE + NL, output());
+    }
+
+    @Test
+    public void printImportProgress_bufferedMode_isVisibleBeforeImportCompletes() throws Exception {
+        ui.enableBufferedOutput();
+        ui.printGreeting();
+        Path file = Files.createTempFile("leo_import", ".txt");
+        ArrayList<String> seen = new ArrayList<>();
+        try {
+            Files.write(file, List.of("T | 0 | One", "T | 0 | Two", "T | 0 | Three", "T | 0 | Four", "T | 0 | Five"));
+            new TaskImporter(file, 2).read(lineCount -> {
+                ui.printImportProgress(lineCount);
+                seen.add(output());
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        assertEquals(2, seen.size());
+        assertTrue(seen.get(0).endsWith("Importing... 2 lines read so far." + NL));
+        assertTrue(seen.get(1).endsWith("Importing... 4 lines read so far." + NL));
+    }
+
+    @Test
+    public void flush_afterLargeMessage_keepsWorking() {
+        ui.enableBufferedOutput();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+        ui.printList(tasks);
+        ui.flush();
+        bytes.reset();
+
+        ui.printUndo("Undone");
+        ui.flush();
+        assertEquals(LINE + NL + "Undone" + NL + LINE + NL, output());
+    }
+}
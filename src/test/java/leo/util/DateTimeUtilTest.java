@@ -563,4 +563,52 @@ public class DateTimeUtilTest {
         String result = DateTimeUtil.format(LocalDateTime.of(2025, 6, 15, 0, 1));
         assertEquals("Jun 15 2025 12:01AM", result);
     }
+
+    // ==================== Smart Resolution Tests ====================
+
+    @Test
+    public void parseDateTime_dayPastEndOfMonth_clampsToLastDay() throws LeoException {
+        assertEquals(LocalDateTime.of(2025, 2, 28, 0, 0), DateTimeUtil.parseDateTime("2025-02-30"));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 10, 0), DateTimeUtil.parseDateTime("31/2/2024 1000"));
+    }
+
+    @Test
+    public void parseDateTime_hour24_rollsOverToNextDay() throws LeoException {
+        assertEquals(LocalDateTime.of(2026, 1, 1, 0, 0), DateTimeUtil.parseDateTime("2025-12-31 2400"));
+    }
+
+    @Test
+    public void parseDateTime_hour24WithMinutes_throwsLeoException() {
+        assertThrows(LeoException.class, () -> DateTimeUtil.parseDateTime("2025-12-31 2401"));
+    }
+
+    @Test
+    public void parseDateTime_slashFormatLeadingZeros_success() throws LeoException {
+        assertEquals(LocalDateTime.of(2025, 3, 5, 14, 30), DateTimeUtil.parseDateTime("005/03/2025 1430"));
+    }
+
+    @Test
+    public void parseDateTime_yearZero_throwsLeoException() {
+        assertThrows(LeoException.class, () -> DateTimeUtil.parseDateTime("0000-01-01"));
+    }
+
+    @Test
+    public void parseDateTime_fiveDigitYearWithoutSign_throwsLeoException() {
+        assertThrows(LeoException.class, () -> DateTimeUtil.parseDateTime("12345-01-01"));
+    }
+
+    @Test
+    public void parseDateTime_signedFiveDigitYear_success() throws LeoException {
+        assertEquals(LocalDateTime.of(12345, 1, 1, 0, 0), DateTimeUtil.parseDateTime("+12345-01-01"));
+    }
+
+    @Test
+    public void parseStored_dayPastEndOfMonth_throwsLeoException() {
+        assertThrows(LeoException.class, () -> DateTimeUtil.parseStored("2025-02-30T10:00"));
+    }
+
+    @Test
+    public void parseStored_hour24_throwsLeoException() {
+        assertThrows(LeoException.class, () -> DateTimeUtil.parseStored("2025-06-15T24:00"));
+    }
 }